@@ -0,0 +1,87 @@
+package kr.pullgo.pullgoserver.persistence.converter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import kr.pullgo.pullgoserver.persistence.model.Answer;
+import kr.pullgo.pullgoserver.persistence.model.MultipleChoice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 문제 100개짜리 시험을 읽을 때 컨버터가 하는 일(정답, 선택지 역직렬화)을 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    private static final int QUESTION_COUNT = 100;
+
+    private final ObjectMapper legacyAnswerMapper = new ObjectMapper();
+    private final ObjectMapper legacyChoiceMapper = new ObjectMapper();
+    private final AnswerConverter jsonAnswerConverter = new AnswerConverter(ColumnFormat.JSON);
+    private final ChoiceConverter jsonChoiceConverter = new ChoiceConverter(ColumnFormat.JSON);
+    private final AnswerConverter compactAnswerConverter =
+        new AnswerConverter(ColumnFormat.COMPACT);
+    private final ChoiceConverter compactChoiceConverter =
+        new ChoiceConverter(ColumnFormat.COMPACT);
+
+    private final String[] jsonAnswers = new String[QUESTION_COUNT];
+    private final String[] jsonChoices = new String[QUESTION_COUNT];
+    private final String[] compactAnswers = new String[QUESTION_COUNT];
+    private final String[] compactChoices = new String[QUESTION_COUNT];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            Answer answer = new Answer(i % 5 + 1);
+            MultipleChoice choice = new MultipleChoice(
+                "보기 1-" + i, "보기 2-" + i, "보기 3-" + i, "보기 4-" + i, "보기 5-" + i);
+            jsonAnswers[i] = jsonAnswerConverter.convertToDatabaseColumn(answer);
+            jsonChoices[i] = jsonChoiceConverter.convertToDatabaseColumn(choice);
+            compactAnswers[i] = compactAnswerConverter.convertToDatabaseColumn(answer);
+            compactChoices[i] = compactChoiceConverter.convertToDatabaseColumn(choice);
+        }
+    }
+
+    @Benchmark
+    public void loadExam_LegacyJson(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            blackhole.consume(legacyAnswerMapper.readValue(jsonAnswers[i],
+                new TypeReference<Answer>() {
+                }));
+            blackhole.consume(legacyChoiceMapper.readValue(jsonChoices[i],
+                new TypeReference<MultipleChoice>() {
+                }));
+        }
+    }
+
+    @Benchmark
+    public void loadExam_Json(Blackhole blackhole) {
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            blackhole.consume(jsonAnswerConverter.convertToEntityAttribute(jsonAnswers[i]));
+            blackhole.consume(jsonChoiceConverter.convertToEntityAttribute(jsonChoices[i]));
+        }
+    }
+
+    @Benchmark
+    public void loadExam_Compact(Blackhole blackhole) {
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            blackhole.consume(compactAnswerConverter.convertToEntityAttribute(compactAnswers[i]));
+            blackhole.consume(compactChoiceConverter.convertToEntityAttribute(compactChoices[i]));
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package kr.pullgo.pullgoserver;
 
+import kr.pullgo.pullgoserver.persistence.repository.BaseJpaRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
+@EnableJpaRepositories(repositoryBaseClass = BaseJpaRepository.class)
 public class PullgoServerApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,39 @@
+package kr.pullgo.pullgoserver.config.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * admission-control.enabled 가 true 일 때만 동시 요청 제한 filter 를 건다. 인증도 DB 를 읽으므로 Spring Security 보다 먼저
+ * 거른다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "admission-control", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+        AdmissionControlProperties properties,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        // 종류마다 따로 걸리므로 한도를 모두 더해야 동시에 커넥션을 쓸 수 있는 요청 수가 된다
+        int totalConcurrent = properties.getClasses().values().stream()
+            .mapToInt(AdmissionControlProperties.EndpointClass::getMaxConcurrent)
+            .sum();
+        if (totalConcurrent > poolSize) {
+            log.warn("admission-control max-concurrent sum ({}) exceeds the connection pool size"
+                + " ({}); requests can still wait for connections", totalConcurrent, poolSize);
+        }
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+            new AdmissionControlFilter(properties));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,161 @@
+package kr.pullgo.pullgoserver.config.admission;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import kr.pullgo.pullgoserver.config.admission.AdmissionControlProperties.EndpointClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * endpoint 종류별로 동시에 처리하는 요청 수를 제한한다. 한도를 넘은 요청은 잠깐 기다리다가, 대기열이 차거나 기다리는 시간이 지나면
+ * 503 과 Retry-After 로 돌려보낸다. 커넥션 풀을 기다리며 Tomcat 스레드가 쌓이기 전에 요청을 덜어낸다.
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final List<Limiter> limiters = new ArrayList<>();
+    private final String retryAfterSeconds;
+
+    public AdmissionControlFilter(AdmissionControlProperties properties) {
+        for (Map.Entry<String, EndpointClass> entry : properties.getClasses().entrySet()) {
+            limiters.add(new Limiter(entry.getKey(), entry.getValue()));
+        }
+        long retryAfterMillis = properties.getRetryAfter().toMillis();
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        Limiter limiter = limiters.stream()
+            .filter(it -> it.matches(request.getMethod(), path))
+            .findFirst()
+            .orElse(null);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!limiter.acquire()) {
+            log.debug("{} {} rejected: {} requests are over the limit", request.getMethod(),
+                path, limiter.name);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Too many concurrent " + limiter.name + " requests");
+            return;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        };
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            // StreamingResponseBody 같은 비동기 응답은 handler 가 돌아온 뒤에도 커넥션을 쓰므로 응답이 끝날 때 돌려준다
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(release));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                release.run();
+            }
+        }
+    }
+
+    private static class ReleasingAsyncListener implements AsyncListener {
+
+        private final Runnable release;
+
+        ReleasingAsyncListener(Runnable release) {
+            this.release = release;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private static class Limiter {
+
+        private final String name;
+        private final List<String[]> patterns = new ArrayList<>();
+        private final Semaphore permits;
+        private final int maxQueue;
+        private final long maxWaitNanos;
+
+        Limiter(String name, EndpointClass endpointClass) {
+            this.name = name;
+            for (String pattern : endpointClass.getPatterns()) {
+                String[] tokens = pattern.trim().split("\\s+", 2);
+                patterns.add(tokens.length == 2 ? tokens : new String[]{null, tokens[0]});
+            }
+            this.permits = new Semaphore(endpointClass.getMaxConcurrent(), true);
+            this.maxQueue = endpointClass.getMaxQueue();
+            this.maxWaitNanos = endpointClass.getMaxWait().toNanos();
+        }
+
+        boolean matches(String method, String path) {
+            return patterns.stream().anyMatch(pattern ->
+                (pattern[0] == null || pattern[0].equalsIgnoreCase(method))
+                    && PATH_MATCHER.match(pattern[1], path));
+        }
+
+        boolean acquire() {
+            if (permits.tryAcquire()) {
+                return true;
+            }
+            if (permits.getQueueLength() >= maxQueue) {
+                return false;
+            }
+            try {
+                return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void release() {
+            permits.release();
+        }
+    }
+}
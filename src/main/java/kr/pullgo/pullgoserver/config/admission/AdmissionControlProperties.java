@@ -0,0 +1,41 @@
+package kr.pullgo.pullgoserver.config.admission;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * endpoint 종류별 동시 요청 한도. 요청은 설정에 적힌 순서대로 처음 맞는 종류에 속하고, 어디에도 맞지 않으면 제한하지 않는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission-control")
+public class AdmissionControlProperties {
+
+    private boolean enabled = false;
+
+    // 거절할 때 Retry-After 로 알려 줄 시간
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Map<String, EndpointClass> classes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class EndpointClass {
+
+        // "POST /exams/*/finish" 처럼 method 와 ant pattern. method 를 빼면 모든 method 에 맞는다
+        private List<String> patterns = new ArrayList<>();
+
+        private int maxConcurrent = 10;
+
+        // 자리가 나기를 기다릴 수 있는 요청 수. 넘치면 기다리지 않고 바로 거절한다
+        private int maxQueue = 100;
+
+        private Duration maxWait = Duration.ofMillis(500);
+    }
+}
@@ -0,0 +1,21 @@
+package kr.pullgo.pullgoserver.config.aop;
+
+/**
+ * ring buffer 의 slot 하나. 요청마다 새로 만들지 않고 필드를 덮어써서 재사용한다.
+ */
+public class AccessLogEvent {
+
+    long timestamp;
+    String controller;
+    String method;
+    String httpMethod;
+    String requestUri;
+    String queryString;
+    long elapsedMicros;
+    String error;
+    final String[] headerValues;
+
+    AccessLogEvent(int headerCount) {
+        this.headerValues = new String[headerCount];
+    }
+}
@@ -0,0 +1,85 @@
+package kr.pullgo.pullgoserver.config.aop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 여러 요청 스레드가 채우고 writer 스레드 하나가 비우는 bounded lock-free ring buffer.
+ * 가득 차면 요청 스레드를 기다리게 하지 않고 이벤트를 버린다.
+ */
+public class AccessLogRingBuffer {
+
+    private final AccessLogEvent[] events;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    // consumer 스레드만 접근한다
+    private long head;
+
+    public AccessLogRingBuffer(int capacity, int headerCount) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.events = new AccessLogEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new AccessLogEvent(headerCount);
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 쓸 slot 을 하나 예약한다. 가득 찼으면 -1 을 반환한다.
+     */
+    public long claim() {
+        long position = tail.get();
+        while (true) {
+            long diff = sequences.get((int) (position & mask)) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                dropped.increment();
+                return -1;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    public AccessLogEvent get(long position) {
+        return events[(int) (position & mask)];
+    }
+
+    public void publish(long position) {
+        sequences.set((int) (position & mask), position + 1);
+    }
+
+    /**
+     * 발행된 이벤트를 순서대로 넘겨주고, 넘긴 개수를 반환한다.
+     */
+    public int drain(Consumer<AccessLogEvent> consumer) {
+        int count = 0;
+        while (true) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                return count;
+            }
+            consumer.accept(events[index]);
+            sequences.set(index, head + events.length);
+            head++;
+            count++;
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,111 @@
+package kr.pullgo.pullgoserver.config.aop;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ring buffer 에 쌓인 access log 를 백그라운드 스레드에서 한 줄짜리 JSON 으로 기록한다.
+ */
+@Component
+@Slf4j
+public class AccessLogWriter {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Getter
+    private final AccessLogRingBuffer buffer;
+    @Getter
+    private final String[] headerNames;
+    @Getter
+    private final double sampleRate;
+
+    private final StringBuilder line = new StringBuilder(512);
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    @Autowired
+    public AccessLogWriter(
+        @Value("${access-log.buffer-size}") int bufferSize,
+        @Value("${access-log.sample-rate}") double sampleRate,
+        @Value("${access-log.headers}") String[] headerNames) {
+        this.buffer = new AccessLogRingBuffer(bufferSize, headerNames.length);
+        this.headerNames = headerNames;
+        this.sampleRate = sampleRate;
+        this.thread = new Thread(this::run, "access-log-writer");
+        thread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    private void run() {
+        while (running) {
+            if (buffer.drain(this::write) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        buffer.drain(this::write);
+        long dropped = buffer.getDroppedCount();
+        if (dropped > 0) {
+            log.warn("{} access log events dropped because the buffer was full", dropped);
+        }
+    }
+
+    private void write(AccessLogEvent event) {
+        line.setLength(0);
+        line.append("{\"time\":\"").append(Instant.ofEpochMilli(event.timestamp)).append('"');
+        appendField("controller", event.controller);
+        appendField("method", event.method);
+        appendField("http_method", event.httpMethod);
+        appendField("request_uri", event.requestUri);
+        appendField("query", event.queryString);
+        line.append(",\"elapsed_us\":").append(event.elapsedMicros);
+        appendField("error", event.error);
+        for (int i = 0; i < headerNames.length; i++) {
+            appendField(headerNames[i], event.headerValues[i]);
+        }
+        line.append('}');
+        log.info(line.toString());
+    }
+
+    private void appendField(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(",\"");
+        appendEscaped(name);
+        line.append("\":\"");
+        appendEscaped(value);
+        line.append('"');
+    }
+
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+    }
+}
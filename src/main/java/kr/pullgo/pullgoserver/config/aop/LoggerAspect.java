@@ -1,86 +1,77 @@
 package kr.pullgo.pullgoserver.config.aop;
 
-import java.util.Date;
-import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import javax.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.json.simple.JSONObject;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 @Component
 @Aspect
-@Slf4j
+@RequiredArgsConstructor
 public class LoggerAspect {
+
+    private final AccessLogWriter accessLogWriter;
+
     @Pointcut("execution(* kr.pullgo.pullgoserver.presentation.controller..*Controller.*(..))")
     public void loggerPointCut() {
     }
 
     @Around("loggerPointCut()")
     public Object methodLogger(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
-        Object result = proceedingJoinPoint.proceed();
-        HttpServletRequest request =
-            ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest(); // request 정보를 가져온다.
-
-        String controllerName = proceedingJoinPoint.getSignature().getDeclaringType().getSimpleName();
-        String methodName = proceedingJoinPoint.getSignature().getName();
-
-        Map<String, Object> params = new HashMap<>(){
-            @Override
-            public String toString() {
-                StringBuilder stb = new StringBuilder();
-                stb.append("\n┏========================== request params ==========================┓\n");
-                for (var entry : this.entrySet()) {
-                    stb.append("\t\t\t").append(entry.getKey()).append(" : ")
-                        .append(entry.getValue()).append("\n");
-                }
-                stb.append("┗====================================================================┛\n");
-
-                return stb.toString();
-            }
-        };
-
+        long begin = System.nanoTime();
+        Throwable error = null;
         try {
-            params.put("controller", controllerName);
-            params.put("method", methodName);
-            params.put("params", getParams(request));
-            params.put("log_time", new Date());
-            params.put("request_uri", request.getRequestURI());
-            params.put("http_method", request.getMethod());
-            Enumeration<String> headerNames = request.getHeaderNames();
-            while(headerNames.hasMoreElements()) {
-                String name = headerNames.nextElement();
-                String value = request.getHeader(name);
-                params.put(name, value);
+            return proceedingJoinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            // 실패한 요청은 샘플링하지 않고 항상 남긴다
+            if (error != null || isSampled()) {
+                record(proceedingJoinPoint.getSignature(), System.nanoTime() - begin, error);
             }
-        } catch (Exception e) {
-            log.error("LoggerAspect error", e);
         }
-        log.info(params.toString());
-        return result;
     }
 
-    /**
-     * request 에 담긴 정보를 JSONObject 형태로 반환한다.
-     * @param request
-     * @return
-     */
-    private static JSONObject getParams(HttpServletRequest request) {
-        JSONObject jsonObject = new JSONObject();
-        Enumeration<String> params = request.getParameterNames();
-        while (params.hasMoreElements()) {
-            String param = params.nextElement();
-            String replaceParam = param.replaceAll("\\.", "-");
-            jsonObject.put(replaceParam, request.getParameter(param));
+    private boolean isSampled() {
+        double sampleRate = accessLogWriter.getSampleRate();
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void record(Signature signature, long elapsedNanos, Throwable error) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+
+        AccessLogRingBuffer buffer = accessLogWriter.getBuffer();
+        long position = buffer.claim();
+        if (position < 0) {
+            return;
+        }
+        AccessLogEvent event = buffer.get(position);
+        event.timestamp = System.currentTimeMillis();
+        event.controller = signature.getDeclaringType().getSimpleName();
+        event.method = signature.getName();
+        event.httpMethod = request.getMethod();
+        event.requestUri = request.getRequestURI();
+        event.queryString = request.getQueryString();
+        event.elapsedMicros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+        event.error = error == null ? null : error.getClass().getSimpleName();
+        String[] headerNames = accessLogWriter.getHeaderNames();
+        for (int i = 0; i < headerNames.length; i++) {
+            event.headerValues[i] = request.getHeader(headerNames[i]);
         }
-        return jsonObject;
+        buffer.publish(position);
     }
 }
-
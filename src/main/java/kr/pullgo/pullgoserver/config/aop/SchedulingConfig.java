@@ -1,5 +1,7 @@
 package kr.pullgo.pullgoserver.config.aop;
 
+import java.time.Duration;
+import kr.pullgo.pullgoserver.service.cron.TimingWheel;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
@@ -16,4 +18,10 @@ public class SchedulingConfig {
         threadPoolTaskScheduler.initialize();
         return threadPoolTaskScheduler;
     }
-}
\ No newline at end of file
+
+    @Bean(destroyMethod = "shutdown")
+    public TimingWheel timingWheel() {
+        return new TimingWheel(Duration.ofSeconds(1), 512,
+            Runtime.getRuntime().availableProcessors(), "cron-job-");
+    }
+}
@@ -0,0 +1,68 @@
+package kr.pullgo.pullgoserver.config.cache;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import kr.pullgo.pullgoserver.config.cache.SecondLevelCacheProperties.Region;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * persistence.cache.enabled 가 true 일 때만 Hibernate 2차 캐시와 쿼리 캐시를 켠다. 캐시는 JVM 로컬(Ehcache)이므로
+ * 여러 인스턴스로 띄울 때는 region TTL 을 짧게 잡는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "persistence.cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+        for (Map.Entry<String, Region> entry : properties.getRegions().entrySet()) {
+            configuration = configuration.withCache(entry.getKey(),
+                toCacheConfiguration(entry.getValue()));
+        }
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+            EhcacheCachingProvider.class.getName());
+        // 컨텍스트마다 따로 CacheManager 를 만들도록 URI 를 겹치지 않게 준다
+        URI uri = URI.create("urn:pullgo:second-level-cache:" + UUID.randomUUID());
+        return provider.getCacheManager(uri, configuration.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager cacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            // mappedBy 컬렉션(exam.questions 등)은 반대쪽 연관만 바뀌어도 캐시에서 비운다
+            hibernateProperties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CacheConfigurationBuilder<Object, Object> toCacheConfiguration(Region region) {
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder
+            .newCacheConfigurationBuilder(Object.class, Object.class,
+                ResourcePoolsBuilder.heap(region.getMaxEntries()));
+        if (region.getTimeToLive() != null) {
+            builder = builder.withExpiry(
+                ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive()));
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,31 @@
+package kr.pullgo.pullgoserver.config.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hibernate 2차 캐시 region 별 크기와 TTL. 설정에 없는 region 은 기동할 때 실패한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "persistence.cache")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = false;
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        private long maxEntries = 1000;
+
+        // 비어 있으면 만료하지 않는다
+        private Duration timeToLive;
+    }
+}
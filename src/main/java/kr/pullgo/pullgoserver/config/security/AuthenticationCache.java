@@ -0,0 +1,150 @@
+package kr.pullgo.pullgoserver.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 검증이 끝난 JWT 의 principal 과 권한을 잠깐 보관한다. 계정 삭제는 이 노드의 캐시만 지우므로, 다른 노드에서도 삭제가
+ * 늦어도 ttl 안에 반영되도록 토큰 만료 시각보다 짧게 둔다. 토큰 hash 로 나눈 조각마다 가장 오래 쓰이지 않은 토큰부터 밀어낸다.
+ */
+@Component
+public class AuthenticationCache {
+
+    private static final int STRIPES = 16;
+
+    private final Duration ttl;
+    private final Map<String, CachedAuthentication>[] stripes;
+    // 계정을 무효화할 때마다 올라간다. 무효화 이전에 읽은 계정으로는 다시 캐시하지 못하게 한다
+    private final AtomicLong epoch = new AtomicLong();
+
+    @Autowired
+    public AuthenticationCache(@Value("${auth.jwt.cache.max-size}") int maxSize,
+        @Value("${auth.jwt.cache.ttl}") long ttlSeconds) {
+        this(maxSize, Duration.ofSeconds(ttlSeconds), STRIPES);
+    }
+
+    @SuppressWarnings("unchecked")
+    AuthenticationCache(int maxSize, Duration ttl, int stripeCount) {
+        this.ttl = ttl;
+        this.stripes = new Map[stripeCount];
+        int stripeSize = Math.max(1, maxSize / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                    Map.Entry<String, CachedAuthentication> eldest) {
+                    return size() > stripeSize;
+                }
+            };
+        }
+    }
+
+    public UserPrincipalAuthenticationToken get(String token) {
+        String key = hash(token);
+        Map<String, CachedAuthentication> stripe = stripeOf(key);
+        CachedAuthentication cached;
+        synchronized (stripe) {
+            cached = stripe.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.isExpired(Instant.now())) {
+                stripe.remove(key);
+                return null;
+            }
+        }
+        return new UserPrincipalAuthenticationToken(cached.principal, cached.authorities);
+    }
+
+    /**
+     * 계정을 조회하기 전에 읽어 두고 {@link #put} 에 넘긴다.
+     */
+    public long currentEpoch() {
+        return epoch.get();
+    }
+
+    public void put(String token, UserPrincipal principal, List<GrantedAuthority> authorities,
+        Instant expiration, long readEpoch) {
+        String key = hash(token);
+        Instant now = Instant.now();
+        Instant expiresAt = expiration.isBefore(now.plus(ttl)) ? expiration : now.plus(ttl);
+        Map<String, CachedAuthentication> stripe = stripeOf(key);
+        synchronized (stripe) {
+            // evictAccount 는 epoch 를 올린 뒤에 조각을 지우므로, 같은 잠금 안에서 확인하면 지운 뒤에 다시 들어가지 않는다
+            if (readEpoch != epoch.get()) {
+                return;
+            }
+            stripe.put(key, new CachedAuthentication(principal, authorities, expiresAt));
+        }
+    }
+
+    public void evictAccount(Long accountId) {
+        removeAccount(accountId);
+        // 커밋 전에 다른 요청이 이전 계정을 읽었을 수 있으므로 커밋 후에도 한 번 더 지운다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        removeAccount(accountId);
+                    }
+                });
+        }
+    }
+
+    private void removeAccount(Long accountId) {
+        epoch.incrementAndGet();
+        for (Map<String, CachedAuthentication> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.values()
+                    .removeIf(cached -> cached.principal.getAccountId().equals(accountId));
+            }
+        }
+    }
+
+    private Map<String, CachedAuthentication> stripeOf(String key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedAuthentication {
+
+        private final UserPrincipal principal;
+        private final List<GrantedAuthority> authorities;
+        private final Instant expiration;
+
+        private CachedAuthentication(UserPrincipal principal,
+            List<GrantedAuthority> authorities, Instant expiration) {
+            this.principal = principal;
+            this.authorities = authorities;
+            this.expiration = expiration;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiration);
+        }
+    }
+}
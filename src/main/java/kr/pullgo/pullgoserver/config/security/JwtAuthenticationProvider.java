@@ -1,5 +1,6 @@
 package kr.pullgo.pullgoserver.config.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -20,12 +21,15 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
 
     private final JwtService jwtService;
     private final AccountRepository accountRepository;
+    private final AuthenticationCache authenticationCache;
 
     public JwtAuthenticationProvider(
         JwtService jwtService,
-        AccountRepository accountRepository) {
+        AccountRepository accountRepository,
+        AuthenticationCache authenticationCache) {
         this.jwtService = jwtService;
         this.accountRepository = accountRepository;
+        this.authenticationCache = authenticationCache;
     }
 
     @Override
@@ -35,18 +39,27 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
         JwtAuthenticationToken auth = (JwtAuthenticationToken) context.getAuthentication();
 
         String token = auth.getToken();
-        UserPrincipal principal;
+        UserPrincipalAuthenticationToken cached = authenticationCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
         try {
-            principal = jwtService.extractSubject(token);
+            claims = jwtService.extractClaims(token);
         } catch (ExpiredJwtException | UnsupportedJwtException
             | MalformedJwtException | SignatureException ex) {
             throw new BadCredentialsException(ex.getMessage());
         }
+        UserPrincipal principal = jwtService.extractSubject(claims);
 
+        long epoch = authenticationCache.currentEpoch();
         Account account = accountRepository.findById(principal.getAccountId())
             .orElseThrow(() -> new BadCredentialsException("Account not found"));
 
         List<GrantedAuthority> authorities = List.of(account.getRole().asAuthority());
+        authenticationCache.put(token, principal, authorities, claims.getExpiration().toInstant(),
+            epoch);
         return new UserPrincipalAuthenticationToken(principal, authorities);
     }
 
@@ -0,0 +1,23 @@
+package kr.pullgo.pullgoserver.config.security;
+
+import kr.pullgo.pullgoserver.persistence.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResolvedIdentity {
+
+    private final Long accountId;
+    private final UserRole role;
+    private final Long studentId;
+    private final Long teacherId;
+
+    public boolean isStudent() {
+        return studentId != null;
+    }
+
+    public boolean isTeacher() {
+        return teacherId != null;
+    }
+}
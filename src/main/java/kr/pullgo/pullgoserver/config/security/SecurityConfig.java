@@ -20,12 +20,15 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final JwtService jwtService;
     private final AccountRepository accountRepository;
+    private final AuthenticationCache authenticationCache;
 
     @Autowired
     public SecurityConfig(JwtService jwtService,
-        AccountRepository accountRepository) {
+        AccountRepository accountRepository,
+        AuthenticationCache authenticationCache) {
         this.jwtService = jwtService;
         this.accountRepository = accountRepository;
+        this.authenticationCache = authenticationCache;
     }
 
     @Override
@@ -36,7 +39,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     @Override
     protected void configure(AuthenticationManagerBuilder auth) {
-        auth.authenticationProvider(new JwtAuthenticationProvider(jwtService, accountRepository));
+        auth.authenticationProvider(
+            new JwtAuthenticationProvider(jwtService, accountRepository, authenticationCache));
     }
 
     @Override
@@ -8,6 +8,9 @@ public class UserPrincipalAuthenticationToken extends AbstractAuthenticationToke
 
     private final UserPrincipal principal;
 
+    // 요청마다 토큰이 새로 만들어지므로, 한 요청 안에서 권한 검사 결과를 재사용하는 용도로 둔다
+    private ResolvedIdentity identity;
+
     public UserPrincipalAuthenticationToken(UserPrincipal principal,
         Collection<GrantedAuthority> authorities) {
         super(authorities);
@@ -24,6 +27,14 @@ public class UserPrincipalAuthenticationToken extends AbstractAuthenticationToke
         return null;
     }
 
+    public ResolvedIdentity getIdentity() {
+        return identity;
+    }
+
+    public void setIdentity(ResolvedIdentity identity) {
+        this.identity = identity;
+    }
+
     @Override
     public boolean isAuthenticated() {
         return true;
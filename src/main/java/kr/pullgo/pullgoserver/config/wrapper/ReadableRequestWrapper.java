@@ -2,69 +2,59 @@ package kr.pullgo.pullgoserver.config.wrapper;
 
 import io.micrometer.core.instrument.util.StringUtils;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.stream.Collectors;
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.entity.ContentType;
-import org.apache.commons.io.IOUtils;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 
+/**
+ * body 를 미리 읽지 않고, 애플리케이션이 읽어가는 만큼만 최대 maxCaptureBytes 까지 복사해 둔다.
+ * body 의 JSON 필드는 누군가 parameter 를 조회할 때 처음 한 번만 파싱한다.
+ */
 @Slf4j
 public class ReadableRequestWrapper extends HttpServletRequestWrapper {
+
+    public static final int DEFAULT_MAX_CAPTURE_BYTES = 8 * 1024;
+
     private final Charset encoding;
-    private byte[] rawData;
-    private Map<String, String[]> params = new HashMap<>();
+    private final int maxCaptureBytes;
+    private final Map<String, String[]> overriddenParams = new HashMap<>();
+    private CapturingInputStream inputStream;
+    private BufferedReader reader;
+    private Map<String, String[]> params;
 
     public ReadableRequestWrapper(HttpServletRequest request) {
-        super(request);
-        this.params.putAll(request.getParameterMap());
+        this(request, DEFAULT_MAX_CAPTURE_BYTES);
+    }
 
+    public ReadableRequestWrapper(HttpServletRequest request, int maxCaptureBytes) {
+        super(request);
         String charEncoding = request.getCharacterEncoding();
         this.encoding = StringUtils.isBlank(charEncoding) ? StandardCharsets.UTF_8 : Charset.forName(charEncoding);
+        // 파일 업로드는 복사하지 않는다
+        this.maxCaptureBytes = isMultipart(request) ? 0 : maxCaptureBytes;
+    }
 
-        try {
-            InputStream is = request.getInputStream();
-            this.rawData = IOUtils.toByteArray(is); // InputStream 을 별도로 저장한 다음 getReader() 에서 새 스트림으로 생성
+    public String getCapturedBody() {
+        return inputStream == null ? "" : inputStream.captured.toString(encoding);
+    }
 
-            // body 파싱
-            String collect = this.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
-            if (StringUtils.isEmpty(collect)) { // body 가 없을경우 로깅 제외
-                return;
-            }
-            if (request.getContentType() != null && request.getContentType().contains(
-                ContentType.MULTIPART_FORM_DATA.getMimeType())) { // 파일 업로드시 로깅제외
-                return;
-            }
-            JSONParser jsonParser = new JSONParser();
-            Object parse = jsonParser.parse(collect);
-            if (parse instanceof JSONArray) {
-                JSONArray jsonArray = (JSONArray)jsonParser.parse(collect);
-                setParameter("requestBody", jsonArray.toJSONString());
-            } else {
-                JSONObject jsonObject = (JSONObject)jsonParser.parse(collect);
-                for (Object o : jsonObject.keySet()) {
-                    String key = (String) o;
-                    setParameter(key, jsonObject.get(key).toString().replace("\"", "\\\""));
-                }
-            }
-        } catch (Exception e) {
-            log.error("ReadableRequestWrapper init error", e);
-        }
+    public boolean isBodyTruncated() {
+        return inputStream != null && inputStream.truncated;
     }
 
     @Override
@@ -79,24 +69,18 @@ public class ReadableRequestWrapper extends HttpServletRequestWrapper {
 
     @Override
     public Map<String, String[]> getParameterMap() {
-        return Collections.unmodifiableMap(params);
+        return Collections.unmodifiableMap(getParams());
     }
 
     @Override
     public Enumeration<String> getParameterNames() {
-        return Collections.enumeration(params.keySet());
+        return Collections.enumeration(getParams().keySet());
     }
 
     @Override
     public String[] getParameterValues(String name) {
-        String[] result = null;
-        String[] dummyParamValue = params.get(name);
-
-        if (dummyParamValue != null) {
-            result = new String[dummyParamValue.length];
-            System.arraycopy(dummyParamValue, 0, result, 0, dummyParamValue.length);
-        }
-        return result;
+        String[] values = getParams().get(name);
+        return values == null ? null : values.clone();
     }
 
     public void setParameter(String name, String value) {
@@ -105,37 +89,138 @@ public class ReadableRequestWrapper extends HttpServletRequestWrapper {
     }
 
     public void setParameter(String name, String[] values) {
-        params.put(name, values);
+        overriddenParams.put(name, values);
+        if (params != null) {
+            params.put(name, values);
+        }
     }
 
     @Override
-    public ServletInputStream getInputStream() {
-        final ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(this.rawData);
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CapturingInputStream(super.getInputStream(), maxCaptureBytes);
+        }
+        return inputStream;
+    }
 
-        return new ServletInputStream() {
-            @Override
-            public boolean isFinished() {
-                return false;
-            }
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+        return reader;
+    }
+
+    private Map<String, String[]> getParams() {
+        if (params != null) {
+            return params;
+        }
+        Map<String, String[]> merged = new HashMap<>(super.getParameterMap());
+        // body 를 끝까지, 잘리지 않고 읽은 뒤에만 body 필드를 합친다
+        boolean complete = inputStream != null && inputStream.isFinished() && !inputStream.truncated;
+        if (complete) {
+            putBodyParams(merged, getCapturedBody());
+        }
+        merged.putAll(overriddenParams);
+        if (complete || maxCaptureBytes == 0) {
+            params = merged;
+        }
+        return merged;
+    }
 
-            @Override
-            public boolean isReady() {
-                return false;
+    private void putBodyParams(Map<String, String[]> target, String body) {
+        if (StringUtils.isEmpty(body)) { // body 가 없을경우 로깅 제외
+            return;
+        }
+        try {
+            Object parse = new JSONParser().parse(body);
+            if (parse instanceof JSONArray) {
+                target.put("requestBody", new String[]{((JSONArray) parse).toJSONString()});
+            } else if (parse instanceof JSONObject) {
+                JSONObject jsonObject = (JSONObject) parse;
+                for (Object o : jsonObject.keySet()) {
+                    String key = (String) o;
+                    Object value = jsonObject.get(key);
+                    target.put(key, new String[]{String.valueOf(value).replace("\"", "\\\"")});
+                }
             }
+        } catch (Exception e) {
+            log.error("ReadableRequestWrapper body parse error", e);
+        }
+    }
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        return request.getContentType() != null && request.getContentType().contains(
+            ContentType.MULTIPART_FORM_DATA.getMimeType());
+    }
+
+    private static class CapturingInputStream extends ServletInputStream {
 
-            @Override
-            public void setReadListener(ReadListener readListener) {
-                // Do nothing
+        private final ServletInputStream delegate;
+        private final int maxCaptureBytes;
+        private final ByteArrayOutputStream captured;
+        private boolean finished;
+        private boolean truncated;
+
+        private CapturingInputStream(ServletInputStream delegate, int maxCaptureBytes) {
+            this.delegate = delegate;
+            this.maxCaptureBytes = maxCaptureBytes;
+            this.captured = new ByteArrayOutputStream(Math.min(maxCaptureBytes, 1024));
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b < 0) {
+                finished = true;
+            } else if (captured.size() < maxCaptureBytes) {
+                captured.write(b);
+            } else {
+                truncated = true;
             }
+            return b;
+        }
 
-            public int read() {
-                return byteArrayInputStream.read();
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = delegate.read(b, off, len);
+            if (count < 0) {
+                finished = true;
+                return count;
             }
-        };
-    }
+            int capturable = Math.min(count, maxCaptureBytes - captured.size());
+            if (capturable > 0) {
+                captured.write(b, off, capturable);
+            }
+            if (capturable < count) {
+                truncated = true;
+            }
+            return count;
+        }
 
-    @Override
-    public BufferedReader getReader() {
-        return new BufferedReader(new InputStreamReader(this.getInputStream(), this.encoding));
+        @Override
+        public boolean isFinished() {
+            return finished || delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return delegate.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
     }
 }
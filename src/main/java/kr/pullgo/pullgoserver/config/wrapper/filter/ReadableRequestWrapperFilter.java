@@ -11,6 +11,17 @@ import javax.servlet.http.HttpServletRequest;
 import kr.pullgo.pullgoserver.config.wrapper.ReadableRequestWrapper;
 
 public class ReadableRequestWrapperFilter implements Filter {
+
+    private final int maxCaptureBytes;
+
+    public ReadableRequestWrapperFilter() {
+        this(ReadableRequestWrapper.DEFAULT_MAX_CAPTURE_BYTES);
+    }
+
+    public ReadableRequestWrapperFilter(int maxCaptureBytes) {
+        this.maxCaptureBytes = maxCaptureBytes;
+    }
+
     @Override
     public void init(FilterConfig filterConfig) {
         // Do nothing
@@ -19,7 +30,8 @@ public class ReadableRequestWrapperFilter implements Filter {
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
         throws IOException, ServletException {
-        ReadableRequestWrapper wrapper = new ReadableRequestWrapper((HttpServletRequest)request);
+        ReadableRequestWrapper wrapper = new ReadableRequestWrapper((HttpServletRequest)request,
+            maxCaptureBytes);
         chain.doFilter(wrapper, response);
     }
 
@@ -0,0 +1,50 @@
+package kr.pullgo.pullgoserver.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import javax.validation.constraints.NotNull;
+import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.With;
+import org.springframework.http.MediaType;
+
+public interface ExamResultDto {
+
+    @Getter
+    @RequiredArgsConstructor
+    enum Format {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+    }
+
+    @Data
+    @Builder
+    @With
+    class Row {
+
+        @NotNull
+        private Long attenderStateId;
+
+        private Long attenderId;
+
+        private String username;
+
+        private String fullName;
+
+        @NotNull
+        private AttendingProgress progress;
+
+        private Integer score;
+
+        // question id 별 선택한 보기 번호
+        @NotNull
+        private Map<Long, Set<Integer>> answers;
+    }
+}
@@ -0,0 +1,51 @@
+package kr.pullgo.pullgoserver.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Data;
+import lombok.With;
+
+public interface ExamStatisticsDto {
+
+    @Data
+    @Builder
+    @With
+    class Result {
+
+        @NotNull
+        private Long examId;
+
+        @NotNull
+        private Long attenderCount;
+
+        private Double averageScore;
+
+        private Integer passScore;
+
+        private Long passCount;
+
+        private Double passRate;
+
+        // 10점 단위 구간(0~9, 10~19, ..., 90~99, 100)별 응시자 수
+        @NotNull
+        private List<Long> scoreDistribution;
+
+        @NotNull
+        private List<Question> questions;
+    }
+
+    @Data
+    @Builder
+    @With
+    class Question {
+
+        @NotNull
+        private Long questionId;
+
+        @NotNull
+        private Long correctCount;
+
+        private Double correctRate;
+    }
+}
@@ -1,11 +1,18 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.AcademyDto;
 import kr.pullgo.pullgoserver.persistence.model.Academy;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.stereotype.Component;
 
 @Component
-public class AcademyDtoMapper implements DtoMapper<Academy, AcademyDto.Create, AcademyDto.Result> {
+public class AcademyDtoMapper implements
+    DtoMapper<Academy, AcademyDto.Create, AcademyDto.Result>,
+    Projection<Academy, AcademyDto.Result> {
 
     @Override
     public Academy asEntity(AcademyDto.Create dto) {
@@ -27,4 +34,24 @@ public class AcademyDtoMapper implements DtoMapper<Academy, AcademyDto.Create, A
             .build();
     }
 
+    @Override
+    public void select(From<?, Academy> academy, String alias, List<Selection<?>> selections) {
+        selections.add(academy.get("id").alias(alias + "_id"));
+        selections.add(academy.get("name").alias(alias + "_name"));
+        selections.add(academy.get("phone").alias(alias + "_phone"));
+        selections.add(academy.get("address").alias(alias + "_address"));
+        selections.add(academy.get("owner").get("id").alias(alias + "_ownerId"));
+    }
+
+    @Override
+    public AcademyDto.Result asResult(Tuple tuple, String alias) {
+        return AcademyDto.Result.builder()
+            .id(tuple.get(alias + "_id", Long.class))
+            .name(tuple.get(alias + "_name", String.class))
+            .phone(tuple.get(alias + "_phone", String.class))
+            .address(tuple.get(alias + "_address", String.class))
+            .ownerId(tuple.get(alias + "_ownerId", Long.class))
+            .build();
+    }
+
 }
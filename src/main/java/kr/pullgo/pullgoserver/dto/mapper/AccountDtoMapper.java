@@ -1,11 +1,19 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.AccountDto;
 import kr.pullgo.pullgoserver.persistence.model.Account;
+import kr.pullgo.pullgoserver.persistence.model.UserRole;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.stereotype.Component;
 
 @Component
-public class AccountDtoMapper implements DtoMapper<Account, AccountDto.Create, AccountDto.Result> {
+public class AccountDtoMapper implements
+    DtoMapper<Account, AccountDto.Create, AccountDto.Result>,
+    Projection<Account, AccountDto.Result> {
 
     @Override
     public Account asEntity(AccountDto.Create dto) {
@@ -27,4 +35,22 @@ public class AccountDtoMapper implements DtoMapper<Account, AccountDto.Create, A
             .build();
     }
 
+    @Override
+    public void select(From<?, Account> account, String alias, List<Selection<?>> selections) {
+        selections.add(account.get("username").alias(alias + "_username"));
+        selections.add(account.get("fullName").alias(alias + "_fullName"));
+        selections.add(account.get("phone").alias(alias + "_phone"));
+        selections.add(account.get("role").alias(alias + "_role"));
+    }
+
+    @Override
+    public AccountDto.Result asResult(Tuple tuple, String alias) {
+        return AccountDto.Result.builder()
+            .username(tuple.get(alias + "_username", String.class))
+            .fullName(tuple.get(alias + "_fullName", String.class))
+            .phone(tuple.get(alias + "_phone", String.class))
+            .role(tuple.get(alias + "_role", UserRole.class))
+            .build();
+    }
+
 }
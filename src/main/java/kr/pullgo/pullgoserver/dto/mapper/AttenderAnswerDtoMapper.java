@@ -1,13 +1,19 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.AttenderAnswerDto;
 import kr.pullgo.pullgoserver.persistence.model.Answer;
 import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.stereotype.Component;
 
 @Component
 public class AttenderAnswerDtoMapper implements
-    DtoMapper<AttenderAnswer, AttenderAnswerDto.Create, AttenderAnswerDto.Result> {
+    DtoMapper<AttenderAnswer, AttenderAnswerDto.Create, AttenderAnswerDto.Result>,
+    Projection<AttenderAnswer, AttenderAnswerDto.Result> {
 
     @Override
     public AttenderAnswer asEntity(AttenderAnswerDto.Create dto) {
@@ -26,4 +32,24 @@ public class AttenderAnswerDtoMapper implements
             .build();
     }
 
+    @Override
+    public void select(From<?, AttenderAnswer> attenderAnswer, String alias,
+        List<Selection<?>> selections) {
+        selections.add(attenderAnswer.get("id").alias(alias + "_id"));
+        selections.add(attenderAnswer.get("attenderState").get("id")
+            .alias(alias + "_attenderStateId"));
+        selections.add(attenderAnswer.get("question").get("id").alias(alias + "_questionId"));
+        selections.add(attenderAnswer.get("answer").alias(alias + "_answer"));
+    }
+
+    @Override
+    public AttenderAnswerDto.Result asResult(Tuple tuple, String alias) {
+        return AttenderAnswerDto.Result.builder()
+            .id(tuple.get(alias + "_id", Long.class))
+            .attenderStateId(tuple.get(alias + "_attenderStateId", Long.class))
+            .questionId(tuple.get(alias + "_questionId", Long.class))
+            .answer(tuple.get(alias + "_answer", Answer.class).getObjectiveNumbers())
+            .build();
+    }
+
 }
@@ -1,13 +1,20 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.AttenderStateDto;
 import kr.pullgo.pullgoserver.persistence.model.AttenderState;
+import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.stereotype.Component;
 
 @Component
 public class AttenderStateDtoMapper implements
-    DtoMapper<AttenderState, AttenderStateDto.Create, AttenderStateDto.Result> {
+    DtoMapper<AttenderState, AttenderStateDto.Create, AttenderStateDto.Result>,
+    Projection<AttenderState, AttenderStateDto.Result> {
 
     @Override
     public AttenderState asEntity(AttenderStateDto.Create dto) {
@@ -25,4 +32,25 @@ public class AttenderStateDtoMapper implements
             .build();
     }
 
+    @Override
+    public void select(From<?, AttenderState> attenderState, String alias,
+        List<Selection<?>> selections) {
+        selections.add(attenderState.get("id").alias(alias + "_id"));
+        selections.add(attenderState.get("attender").get("id").alias(alias + "_attenderId"));
+        selections.add(attenderState.get("exam").get("id").alias(alias + "_examId"));
+        selections.add(attenderState.get("progress").alias(alias + "_progress"));
+        selections.add(attenderState.get("score").alias(alias + "_score"));
+    }
+
+    @Override
+    public AttenderStateDto.Result asResult(Tuple tuple, String alias) {
+        return AttenderStateDto.Result.builder()
+            .id(tuple.get(alias + "_id", Long.class))
+            .attenderId(tuple.get(alias + "_attenderId", Long.class))
+            .examId(tuple.get(alias + "_examId", Long.class))
+            .progress(tuple.get(alias + "_progress", AttendingProgress.class))
+            .score(tuple.get(alias + "_score", Integer.class))
+            .build();
+    }
+
 }
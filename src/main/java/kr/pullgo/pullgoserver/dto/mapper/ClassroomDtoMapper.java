@@ -1,13 +1,20 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.ClassroomDto;
 import kr.pullgo.pullgoserver.persistence.model.Classroom;
+import kr.pullgo.pullgoserver.persistence.repository.CriteriaJoins;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ClassroomDtoMapper implements
-    DtoMapper<Classroom, ClassroomDto.Create, ClassroomDto.Result> {
+    DtoMapper<Classroom, ClassroomDto.Create, ClassroomDto.Result>,
+    Projection<Classroom, ClassroomDto.Result> {
 
     private final TeacherDtoMapper teacherDtoMapper;
 
@@ -33,4 +40,23 @@ public class ClassroomDtoMapper implements
             .build();
     }
 
+    @Override
+    public void select(From<?, Classroom> classroom, String alias, List<Selection<?>> selections) {
+        selections.add(classroom.get("id").alias(alias + "_id"));
+        selections.add(classroom.get("name").alias(alias + "_name"));
+        teacherDtoMapper.select(CriteriaJoins.join(classroom, "creator"), alias + "_creator",
+            selections);
+        selections.add(classroom.get("academy").get("id").alias(alias + "_academyId"));
+    }
+
+    @Override
+    public ClassroomDto.Result asResult(Tuple tuple, String alias) {
+        return ClassroomDto.Result.builder()
+            .id(tuple.get(alias + "_id", Long.class))
+            .name(tuple.get(alias + "_name", String.class))
+            .creator(teacherDtoMapper.asResult(tuple, alias + "_creator"))
+            .academyId(tuple.get(alias + "_academyId", Long.class))
+            .build();
+    }
+
 }
@@ -1,11 +1,20 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.ExamDto;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.stereotype.Component;
 
 @Component
-public class ExamDtoMapper implements DtoMapper<Exam, ExamDto.Create, ExamDto.Result> {
+public class ExamDtoMapper implements
+    DtoMapper<Exam, ExamDto.Create, ExamDto.Result>,
+    Projection<Exam, ExamDto.Result> {
 
     @Override
     public Exam asEntity(ExamDto.Create dto) {
@@ -34,4 +43,34 @@ public class ExamDtoMapper implements DtoMapper<Exam, ExamDto.Create, ExamDto.Re
             .build();
     }
 
+    @Override
+    public void select(From<?, Exam> exam, String alias, List<Selection<?>> selections) {
+        selections.add(exam.get("id").alias(alias + "_id"));
+        selections.add(exam.get("classroom").get("id").alias(alias + "_classroomId"));
+        selections.add(exam.get("creator").get("id").alias(alias + "_creatorId"));
+        selections.add(exam.get("name").alias(alias + "_name"));
+        selections.add(exam.get("beginDateTime").alias(alias + "_beginDateTime"));
+        selections.add(exam.get("endDateTime").alias(alias + "_endDateTime"));
+        selections.add(exam.get("timeLimit").alias(alias + "_timeLimit"));
+        selections.add(exam.get("passScore").alias(alias + "_passScore"));
+        selections.add(exam.get("cancelled").alias(alias + "_cancelled"));
+        selections.add(exam.get("finished").alias(alias + "_finished"));
+    }
+
+    @Override
+    public ExamDto.Result asResult(Tuple tuple, String alias) {
+        return ExamDto.Result.builder()
+            .id(tuple.get(alias + "_id", Long.class))
+            .classroomId(tuple.get(alias + "_classroomId", Long.class))
+            .creatorId(tuple.get(alias + "_creatorId", Long.class))
+            .name(tuple.get(alias + "_name", String.class))
+            .beginDateTime(tuple.get(alias + "_beginDateTime", LocalDateTime.class))
+            .endDateTime(tuple.get(alias + "_endDateTime", LocalDateTime.class))
+            .timeLimit(tuple.get(alias + "_timeLimit", Duration.class))
+            .passScore(tuple.get(alias + "_passScore", Integer.class))
+            .cancelled(tuple.get(alias + "_cancelled", Boolean.class))
+            .finished(tuple.get(alias + "_finished", Boolean.class))
+            .build();
+    }
+
 }
@@ -1,12 +1,22 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.LessonDto;
+import kr.pullgo.pullgoserver.persistence.model.Classroom;
 import kr.pullgo.pullgoserver.persistence.model.Lesson;
+import kr.pullgo.pullgoserver.persistence.repository.CriteriaJoins;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class LessonDtoMapper implements DtoMapper<Lesson, LessonDto.Create, LessonDto.Result> {
+public class LessonDtoMapper implements
+    DtoMapper<Lesson, LessonDto.Create, LessonDto.Result>,
+    Projection<Lesson, LessonDto.Result> {
 
     private final ScheduleDtoMapper scheduleDtoMapper;
 
@@ -35,4 +45,26 @@ public class LessonDtoMapper implements DtoMapper<Lesson, LessonDto.Create, Less
             .build();
     }
 
+    @Override
+    public void select(From<?, Lesson> lesson, String alias, List<Selection<?>> selections) {
+        selections.add(lesson.get("id").alias(alias + "_id"));
+        scheduleDtoMapper.select(CriteriaJoins.join(lesson, "schedule"), alias + "_schedule",
+            selections);
+        selections.add(lesson.get("name").alias(alias + "_name"));
+        Join<Lesson, Classroom> classroom = CriteriaJoins.join(lesson, "classroom");
+        selections.add(classroom.get("id").alias(alias + "_classroomId"));
+        selections.add(classroom.get("academy").get("id").alias(alias + "_academyId"));
+    }
+
+    @Override
+    public LessonDto.Result asResult(Tuple tuple, String alias) {
+        return LessonDto.Result.builder()
+            .id(tuple.get(alias + "_id", Long.class))
+            .schedule(scheduleDtoMapper.asResult(tuple, alias + "_schedule"))
+            .name(tuple.get(alias + "_name", String.class))
+            .classroomId(tuple.get(alias + "_classroomId", Long.class))
+            .academyId(tuple.get(alias + "_academyId", Long.class))
+            .build();
+    }
+
 }
@@ -1,14 +1,20 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.QuestionDto;
 import kr.pullgo.pullgoserver.persistence.model.Answer;
 import kr.pullgo.pullgoserver.persistence.model.MultipleChoice;
 import kr.pullgo.pullgoserver.persistence.model.Question;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.stereotype.Component;
 
 @Component
 public class QuestionDtoMapper implements
-    DtoMapper<Question, QuestionDto.Create, QuestionDto.Result> {
+    DtoMapper<Question, QuestionDto.Create, QuestionDto.Result>,
+    Projection<Question, QuestionDto.Result> {
 
     @Override
     public Question asEntity(QuestionDto.Create dto) {
@@ -32,4 +38,27 @@ public class QuestionDtoMapper implements
             .build();
     }
 
+    @Override
+    public void select(From<?, Question> question, String alias,
+        List<Selection<?>> selections) {
+        selections.add(question.get("id").alias(alias + "_id"));
+        selections.add(question.get("exam").get("id").alias(alias + "_examId"));
+        selections.add(question.get("content").alias(alias + "_content"));
+        selections.add(question.get("pictureUrl").alias(alias + "_pictureUrl"));
+        selections.add(question.get("answer").alias(alias + "_answer"));
+        selections.add(question.get("multipleChoice").alias(alias + "_multipleChoice"));
+    }
+
+    @Override
+    public QuestionDto.Result asResult(Tuple tuple, String alias) {
+        return QuestionDto.Result.builder()
+            .id(tuple.get(alias + "_id", Long.class))
+            .examId(tuple.get(alias + "_examId", Long.class))
+            .content(tuple.get(alias + "_content", String.class))
+            .pictureUrl(tuple.get(alias + "_pictureUrl", String.class))
+            .answer(tuple.get(alias + "_answer", Answer.class).getObjectiveNumbers())
+            .choice(tuple.get(alias + "_multipleChoice", MultipleChoice.class).getChoices())
+            .build();
+    }
+
 }
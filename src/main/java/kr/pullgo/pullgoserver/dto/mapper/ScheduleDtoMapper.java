@@ -1,12 +1,20 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.ScheduleDto;
 import kr.pullgo.pullgoserver.persistence.model.Schedule;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ScheduleDtoMapper implements
-    DtoMapper<Schedule, ScheduleDto.Create, ScheduleDto.Result> {
+    DtoMapper<Schedule, ScheduleDto.Create, ScheduleDto.Result>,
+    Projection<Schedule, ScheduleDto.Result> {
 
     @Override
     public Schedule asEntity(ScheduleDto.Create dto) {
@@ -26,4 +34,20 @@ public class ScheduleDtoMapper implements
             .build();
     }
 
+    @Override
+    public void select(From<?, Schedule> schedule, String alias, List<Selection<?>> selections) {
+        selections.add(schedule.get("date").alias(alias + "_date"));
+        selections.add(schedule.get("beginTime").alias(alias + "_beginTime"));
+        selections.add(schedule.get("endTime").alias(alias + "_endTime"));
+    }
+
+    @Override
+    public ScheduleDto.Result asResult(Tuple tuple, String alias) {
+        return ScheduleDto.Result.builder()
+            .date(tuple.get(alias + "_date", LocalDate.class))
+            .beginTime(tuple.get(alias + "_beginTime", LocalTime.class))
+            .endTime(tuple.get(alias + "_endTime", LocalTime.class))
+            .build();
+    }
+
 }
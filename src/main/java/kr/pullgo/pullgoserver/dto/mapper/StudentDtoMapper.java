@@ -1,12 +1,20 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.StudentDto;
 import kr.pullgo.pullgoserver.persistence.model.Student;
+import kr.pullgo.pullgoserver.persistence.repository.CriteriaJoins;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class StudentDtoMapper implements DtoMapper<Student, StudentDto.Create, StudentDto.Result> {
+public class StudentDtoMapper implements
+    DtoMapper<Student, StudentDto.Create, StudentDto.Result>,
+    Projection<Student, StudentDto.Result> {
 
     private final AccountDtoMapper accountDtoMapper;
 
@@ -37,4 +45,25 @@ public class StudentDtoMapper implements DtoMapper<Student, StudentDto.Create, S
             .build();
     }
 
+    @Override
+    public void select(From<?, Student> student, String alias, List<Selection<?>> selections) {
+        selections.add(student.get("id").alias(alias + "_id"));
+        accountDtoMapper.select(CriteriaJoins.join(student, "account"), alias + "_account",
+            selections);
+        selections.add(student.get("parentPhone").alias(alias + "_parentPhone"));
+        selections.add(student.get("schoolName").alias(alias + "_schoolName"));
+        selections.add(student.get("schoolYear").alias(alias + "_schoolYear"));
+    }
+
+    @Override
+    public StudentDto.Result asResult(Tuple tuple, String alias) {
+        return StudentDto.Result.builder()
+            .id(tuple.get(alias + "_id", Long.class))
+            .account(accountDtoMapper.asResult(tuple, alias + "_account"))
+            .parentPhone(tuple.get(alias + "_parentPhone", String.class))
+            .schoolName(tuple.get(alias + "_schoolName", String.class))
+            .schoolYear(tuple.get(alias + "_schoolYear", Integer.class))
+            .build();
+    }
+
 }
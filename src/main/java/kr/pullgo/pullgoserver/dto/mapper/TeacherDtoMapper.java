@@ -1,12 +1,20 @@
 package kr.pullgo.pullgoserver.dto.mapper;
 
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
 import kr.pullgo.pullgoserver.dto.TeacherDto;
 import kr.pullgo.pullgoserver.persistence.model.Teacher;
+import kr.pullgo.pullgoserver.persistence.repository.CriteriaJoins;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-public class TeacherDtoMapper implements DtoMapper<Teacher, TeacherDto.Create, TeacherDto.Result> {
+public class TeacherDtoMapper implements
+    DtoMapper<Teacher, TeacherDto.Create, TeacherDto.Result>,
+    Projection<Teacher, TeacherDto.Result> {
 
     private final AccountDtoMapper accountDtoMapper;
 
@@ -30,4 +38,19 @@ public class TeacherDtoMapper implements DtoMapper<Teacher, TeacherDto.Create, T
             .build();
     }
 
+    @Override
+    public void select(From<?, Teacher> teacher, String alias, List<Selection<?>> selections) {
+        selections.add(teacher.get("id").alias(alias + "_id"));
+        accountDtoMapper.select(CriteriaJoins.join(teacher, "account"), alias + "_account",
+            selections);
+    }
+
+    @Override
+    public TeacherDto.Result asResult(Tuple tuple, String alias) {
+        return TeacherDto.Result.builder()
+            .id(tuple.get(alias + "_id", Long.class))
+            .account(accountDtoMapper.asResult(tuple, alias + "_account"))
+            .build();
+    }
+
 }
@@ -1,22 +1,56 @@
 package kr.pullgo.pullgoserver.persistence.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.Collections;
 import javax.persistence.AttributeConverter;
 import javax.persistence.Converter;
 import kr.pullgo.pullgoserver.error.exception.AnswerJsonProcessingException;
 import kr.pullgo.pullgoserver.persistence.model.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 @Converter
 public class AnswerConverter implements AttributeConverter<Answer, String> {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // compact: '#' + 선택지 번호 bitmask(hex). JSON 은 항상 '{' 로 시작하므로 두 형식을 구분할 수 있다
+    private static final char COMPACT_PREFIX = '#';
+
+    private static final ObjectReader READER = JsonColumns.OBJECT_MAPPER.readerFor(Answer.class);
+    private static final ObjectWriter WRITER = JsonColumns.OBJECT_MAPPER.writerFor(Answer.class);
+
+    // 선택지 0~5 로 만들 수 있는 정답은 미리 만들어 둔 불변 객체를 공유한다
+    private static final Answer[] INTERNED_ANSWERS = new Answer[1 << 6];
+
+    static {
+        for (int mask = 0; mask < INTERNED_ANSWERS.length; mask++) {
+            INTERNED_ANSWERS[mask] = new Answer(Collections.unmodifiableSet(
+                Answer.fromBitmask(mask).getObjectiveNumbers()));
+        }
+    }
+
+    private final ColumnFormat format;
+
+    public AnswerConverter() {
+        this(ColumnFormat.JSON);
+    }
+
+    @Autowired
+    public AnswerConverter(@Value("${persistence.column-format:json}") ColumnFormat format) {
+        this.format = format;
+    }
 
     @Override
     public String convertToDatabaseColumn(Answer attribute) {
+        if (format == ColumnFormat.COMPACT) {
+            long mask = attribute.toBitmask();
+            if (mask != Answer.NOT_COMPILABLE) {
+                return COMPACT_PREFIX + Long.toHexString(mask);
+            }
+        }
         try {
-            return objectMapper.writeValueAsString(attribute);
+            return WRITER.writeValueAsString(attribute);
         } catch (JsonProcessingException e) {
             throw new AnswerJsonProcessingException(e);
         }
@@ -24,11 +58,29 @@ public class AnswerConverter implements AttributeConverter<Answer, String> {
 
     @Override
     public Answer convertToEntityAttribute(String dbData) {
+        if (!dbData.isEmpty() && dbData.charAt(0) == COMPACT_PREFIX) {
+            try {
+                return fromBitmask(Long.parseLong(dbData.substring(1), 16));
+            } catch (NumberFormatException e) {
+                throw new AnswerJsonProcessingException(e);
+            }
+        }
         try {
-            return objectMapper.readValue(dbData, new TypeReference<>() {
-            });
+            return intern(READER.readValue(dbData));
         } catch (JsonProcessingException e) {
             throw new AnswerJsonProcessingException(e);
         }
     }
+
+    private Answer intern(Answer answer) {
+        long mask = answer.toBitmask();
+        return mask == Answer.NOT_COMPILABLE ? answer : fromBitmask(mask);
+    }
+
+    private Answer fromBitmask(long mask) {
+        if (mask >= 0 && mask < INTERNED_ANSWERS.length) {
+            return INTERNED_ANSWERS[(int) mask];
+        }
+        return Answer.fromBitmask(mask);
+    }
 }
@@ -1,23 +1,53 @@
 package kr.pullgo.pullgoserver.persistence.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
 import javax.persistence.AttributeConverter;
 import javax.persistence.Converter;
 import kr.pullgo.pullgoserver.error.exception.ChoiceJsonProcessingException;
 import kr.pullgo.pullgoserver.persistence.model.MultipleChoice;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 @Converter
 public class ChoiceConverter implements AttributeConverter<MultipleChoice, String> {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // compact: '~' 뒤에 key 순으로 "길이:key 길이:value" 를 이어 붙인다
+    private static final char COMPACT_PREFIX = '~';
+    private static final char LENGTH_DELIMITER = ':';
 
+    private static final ObjectReader READER =
+        JsonColumns.OBJECT_MAPPER.readerFor(MultipleChoice.class);
+    private static final ObjectWriter WRITER =
+        JsonColumns.OBJECT_MAPPER.writerFor(MultipleChoice.class);
+
+    private final ColumnFormat format;
+
+    public ChoiceConverter() {
+        this(ColumnFormat.JSON);
+    }
+
+    @Autowired
+    public ChoiceConverter(@Value("${persistence.column-format:json}") ColumnFormat format) {
+        this.format = format;
+    }
 
     @Override
     public String convertToDatabaseColumn(MultipleChoice attribute) {
+        if (format == ColumnFormat.COMPACT) {
+            StringBuilder builder = new StringBuilder().append(COMPACT_PREFIX);
+            new TreeMap<>(attribute.getChoices()).forEach((key, value) -> {
+                appendLengthPrefixed(builder, key);
+                appendLengthPrefixed(builder, value);
+            });
+            return builder.toString();
+        }
         try {
-            return objectMapper.writeValueAsString(attribute);
+            return WRITER.writeValueAsString(attribute);
         } catch (JsonProcessingException e) {
             throw new ChoiceJsonProcessingException(e);
         }
@@ -25,11 +55,35 @@ public class ChoiceConverter implements AttributeConverter<MultipleChoice, Strin
 
     @Override
     public MultipleChoice convertToEntityAttribute(String dbData) {
+        if (!dbData.isEmpty() && dbData.charAt(0) == COMPACT_PREFIX) {
+            try {
+                return readCompact(dbData);
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                throw new ChoiceJsonProcessingException(e);
+            }
+        }
         try {
-            return objectMapper.readValue(dbData, new TypeReference<>() {
-            });
+            return READER.readValue(dbData);
         } catch (JsonProcessingException e) {
             throw new ChoiceJsonProcessingException(e);
         }
     }
+
+    private void appendLengthPrefixed(StringBuilder builder, String value) {
+        builder.append(value.length()).append(LENGTH_DELIMITER).append(value);
+    }
+
+    private MultipleChoice readCompact(String dbData) {
+        Map<String, String> choices = new HashMap<>();
+        int position = 1;
+        while (position < dbData.length()) {
+            int keyStart = dbData.indexOf(LENGTH_DELIMITER, position) + 1;
+            int keyEnd = keyStart + Integer.parseInt(dbData.substring(position, keyStart - 1));
+            int valueStart = dbData.indexOf(LENGTH_DELIMITER, keyEnd) + 1;
+            int valueEnd = valueStart + Integer.parseInt(dbData.substring(keyEnd, valueStart - 1));
+            choices.put(dbData.substring(keyStart, keyEnd), dbData.substring(valueStart, valueEnd));
+            position = valueEnd;
+        }
+        return new MultipleChoice(choices);
+    }
 }
@@ -0,0 +1,5 @@
+package kr.pullgo.pullgoserver.persistence.converter;
+
+public enum ColumnFormat {
+    JSON, COMPACT
+}
@@ -0,0 +1,11 @@
+package kr.pullgo.pullgoserver.persistence.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+final class JsonColumns {
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private JsonColumns() {
+    }
+}
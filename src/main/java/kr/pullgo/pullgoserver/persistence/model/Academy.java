@@ -25,6 +25,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.With;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -33,6 +35,7 @@ import lombok.With;
 @With
 @ToString
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "academy")
 public class Academy extends TimeEntity {
 
     @Id
@@ -77,6 +80,7 @@ public class Academy extends TimeEntity {
     @ToString.Exclude
     @NotNull
     @OneToMany(mappedBy = "academy", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "academy-classrooms")
     private Set<Classroom> classrooms = new HashSet<>();
 
     @Builder
@@ -17,6 +17,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.With;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,6 +27,7 @@ import lombok.With;
 @With
 @ToString
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account")
 public class Account extends TimeEntity {
 
     @Id
@@ -1,14 +1,21 @@
 package kr.pullgo.pullgoserver.persistence.model;
 
+import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @NoArgsConstructor
 @Data
-public class Answer {
+public class Answer implements Serializable {
 
+    public static final long NOT_COMPILABLE = -1L;
+
+    // AnswerConverter 가 인스턴스를 공유하므로 setter 를 열지 않는다
+    @Setter(AccessLevel.NONE)
     private Set<Integer> objectiveNumbers = new HashSet<>();
 
     public Answer(Set<Integer> objectiveNumbers) {
@@ -20,4 +27,23 @@ public class Answer {
             objectiveNumbers.add(number);
         }
     }
+
+    public static Answer fromBitmask(long mask) {
+        Answer answer = new Answer();
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            answer.objectiveNumbers.add(Long.numberOfTrailingZeros(rest));
+        }
+        return answer;
+    }
+
+    public long toBitmask() {
+        long mask = 0L;
+        for (int number : objectiveNumbers) {
+            if (number < 0 || number >= Long.SIZE - 1) {
+                return NOT_COMPILABLE;
+            }
+            mask |= 1L << number;
+        }
+        return mask;
+    }
 }
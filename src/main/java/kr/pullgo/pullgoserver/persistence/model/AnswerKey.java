@@ -0,0 +1,70 @@
+package kr.pullgo.pullgoserver.persistence.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * 시험 문제 정답을 question id 순으로 정렬된 bitmask 배열로 미리 컴파일해 둔 채점표.
+ */
+public final class AnswerKey {
+
+    private final long[] questionIds;
+    private final long[] masks;
+    private final Answer[] answers;
+
+    private AnswerKey(long[] questionIds, long[] masks, Answer[] answers) {
+        this.questionIds = questionIds;
+        this.masks = masks;
+        this.answers = answers;
+    }
+
+    public static AnswerKey compile(Collection<Question> questions) {
+        Question[] sorted = questions.toArray(new Question[0]);
+        Arrays.sort(sorted, Comparator.comparing(Question::getId));
+
+        long[] questionIds = new long[sorted.length];
+        long[] masks = new long[sorted.length];
+        Answer[] answers = new Answer[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            questionIds[i] = sorted[i].getId();
+            answers[i] = sorted[i].getAnswer();
+            masks[i] = answers[i].toBitmask();
+        }
+        return new AnswerKey(questionIds, masks, answers);
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    public long[] getQuestionIds() {
+        return questionIds.clone();
+    }
+
+    public boolean contains(long questionId) {
+        return Arrays.binarySearch(questionIds, questionId) >= 0;
+    }
+
+    public boolean isCorrect(long questionId, Answer answer) {
+        int index = Arrays.binarySearch(questionIds, questionId);
+        if (index < 0) {
+            return false;
+        }
+        long mask = masks[index];
+        if (mask == Answer.NOT_COMPILABLE) {
+            return answers[index].equals(answer);
+        }
+        return mask == answer.toBitmask();
+    }
+
+    public int countCorrect(Collection<AttenderAnswer> attenderAnswers) {
+        int count = 0;
+        for (AttenderAnswer attenderAnswer : attenderAnswers) {
+            if (isCorrect(attenderAnswer.getQuestion().getId(), attenderAnswer.getAnswer())) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -10,6 +10,8 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import kr.pullgo.pullgoserver.persistence.converter.AnswerConverter;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -26,6 +28,8 @@ import lombok.With;
 @With
 @ToString
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_attender_answer_state_question",
+    columnNames = {"attender_state_id", "question_id"}))
 public class AttenderAnswer extends TimeEntity {
 
     @Id
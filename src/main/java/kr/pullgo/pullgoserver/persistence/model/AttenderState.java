@@ -118,16 +118,22 @@ public class AttenderState extends TimeEntity {
         this.examStartTime = examStartTime;
     }
 
-    public void mark() {
-        if (this.getProgress() == AttendingProgress.ONGOING) {
-            int currentQuestionCount = (int) this.getAnswers().stream().filter(it ->
-                it.getQuestion().getAnswer().equals(it.getAnswer())).count();
-            int totalQuestionCount = this.getExam().getQuestions().size();
-            if (totalQuestionCount == 0)
-                throw new AttenderStateSubmitOnNoQuestionsOnExamException();
-            this.setScore(
-                (int) round(((double) currentQuestionCount / (double) totalQuestionCount) * 100));
-            this.setProgress(AttendingProgress.COMPLETE);
+    /**
+     * 응시 중인 답안지만 채점한다. 이번에 채점했으면 true 를 돌려준다.
+     */
+    public boolean mark(AnswerKey answerKey) {
+        if (this.getProgress() != AttendingProgress.ONGOING) {
+            return false;
         }
+        complete(answerKey.countCorrect(this.getAnswers()), answerKey.size());
+        return true;
+    }
+
+    private void complete(int currentQuestionCount, int totalQuestionCount) {
+        if (totalQuestionCount == 0)
+            throw new AttenderStateSubmitOnNoQuestionsOnExamException();
+        this.setScore(
+            (int) round(((double) currentQuestionCount / (double) totalQuestionCount) * 100));
+        this.setProgress(AttendingProgress.COMPLETE);
     }
 }
@@ -12,8 +12,10 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import javax.validation.constraints.NotEmpty;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -22,6 +24,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.With;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -29,6 +33,9 @@ import lombok.With;
 @With
 @ToString
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "exam")
+@Table(indexes = @Index(name = "idx_exam_on_going",
+    columnList = "finished, cancelled, endDateTime"))
 public class Exam extends TimeEntity {
 
     @Id
@@ -65,6 +72,7 @@ public class Exam extends TimeEntity {
     @ToString.Exclude
     @NotNull
     @OneToMany(mappedBy = "exam", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "exam-questions")
     private Set<Question> questions = new HashSet<>();
 
     @ToString.Exclude
@@ -0,0 +1,43 @@
+package kr.pullgo.pullgoserver.persistence.model;
+
+import com.sun.istack.NotNull;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Setter
+@ToString
+@Entity
+@Table(indexes = @Index(name = "idx_exam_deadline_due", columnList = "dueDateTime"))
+public class ExamDeadline extends TimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(unique = true)
+    private Long examId;
+
+    @NotNull
+    private LocalDateTime dueDateTime;
+
+    @Builder
+    public ExamDeadline(Long examId, LocalDateTime dueDateTime) {
+        this.examId = examId;
+        this.dueDateTime = dueDateTime;
+    }
+}
@@ -0,0 +1,45 @@
+package kr.pullgo.pullgoserver.persistence.model;
+
+import com.sun.istack.NotNull;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 시험별 통계 counter. 채점이 끝날 때마다 ExamStatisticCounterBatchRepository 가 값을 더한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_exam_statistic_counter",
+    columnNames = {"examId", "name"}))
+public class ExamStatisticCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long examId;
+
+    @NotNull
+    private String name;
+
+    private long amount;
+
+    @Builder
+    public ExamStatisticCounter(Long examId, String name, long amount) {
+        this.examId = examId;
+        this.name = name;
+        this.amount = amount;
+    }
+}
@@ -1,5 +1,6 @@
 package kr.pullgo.pullgoserver.persistence.model;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.Data;
@@ -7,7 +8,7 @@ import lombok.NoArgsConstructor;
 
 @NoArgsConstructor
 @Data
-public class MultipleChoice {
+public class MultipleChoice implements Serializable {
 
     private Map<String , String> choices = new HashMap<>();
 
@@ -24,13 +24,18 @@ public abstract class TimeEntity {
 
     private LocalDateTime modifiedDate;
 
+    // 수정할 때마다 1씩 늘어나는 ETag 용 값. 낙관적 락에는 쓰지 않는다
+    private Long revision;
+
     @PrePersist
     protected void onCreate() {
         createdDate = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        revision = 0L;
     }
 
     @PreUpdate
     protected void onUpdate() {
         modifiedDate = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        revision = revision == null ? 1L : revision + 1;
     }
 }
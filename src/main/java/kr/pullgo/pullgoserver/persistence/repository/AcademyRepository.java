@@ -6,4 +6,5 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface AcademyRepository extends BaseRepository<Academy, Long> {
 
+    boolean existsByIdAndTeachersId(Long id, Long teacherId);
 }
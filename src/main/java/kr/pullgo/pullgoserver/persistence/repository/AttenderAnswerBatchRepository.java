@@ -0,0 +1,74 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Map;
+import javax.sql.DataSource;
+import kr.pullgo.pullgoserver.persistence.converter.AnswerConverter;
+import kr.pullgo.pullgoserver.persistence.converter.ColumnFormat;
+import kr.pullgo.pullgoserver.persistence.model.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 답안 저장. AttenderAnswer 도 IDENTITY 키라서 Hibernate 가 insert 를 묶지 못하므로 JDBC batch 로 직접 쓴다.
+ * (attender_state_id, question_id) unique index 에 기대는 native upsert 라서 동시에 저장해도 답안이 중복되지 않는다.
+ */
+@Repository
+public class AttenderAnswerBatchRepository {
+
+    private static final String MYSQL_UPSERT_SQL = "insert into attender_answer"
+        + " (attender_state_id, question_id, answer, created_date, revision)"
+        + " values (?, ?, ?, ?, 0)"
+        + " on duplicate key update answer = values(answer),"
+        + " modified_date = values(created_date), revision = coalesce(revision, 0) + 1";
+    private static final String MERGE_UPSERT_SQL = "merge into attender_answer a"
+        + " using (select cast(? as bigint) attender_state_id, cast(? as bigint) question_id,"
+        + " cast(? as varchar(255)) answer, cast(? as timestamp) now from dual) s"
+        + " on a.attender_state_id = s.attender_state_id and a.question_id = s.question_id"
+        + " when matched then update set answer = s.answer, modified_date = s.now,"
+        + " revision = coalesce(revision, 0) + 1"
+        + " when not matched then insert"
+        + " (attender_state_id, question_id, answer, created_date, revision)"
+        + " values (s.attender_state_id, s.question_id, s.answer, s.now, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AnswerConverter answerConverter;
+    private final int batchSize;
+    private final String upsertSql;
+
+    @Autowired
+    public AttenderAnswerBatchRepository(JdbcTemplate jdbcTemplate, DataSource dataSource,
+        @Value("${persistence.column-format:json}") ColumnFormat format,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize)
+        throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.answerConverter = new AnswerConverter(format);
+        this.batchSize = batchSize;
+        this.upsertSql = UpsertSyntax.of(dataSource) == UpsertSyntax.ON_DUPLICATE_KEY
+            ? MYSQL_UPSERT_SQL : MERGE_UPSERT_SQL;
+    }
+
+    public void upsert(Long attenderStateId, Long questionId, Answer answer) {
+        upsertAll(attenderStateId, Map.of(questionId, answer));
+    }
+
+    /**
+     * 현재 트랜잭션에서 question id 별 답안을 쓴다. 이미 있는 답안은 수정하고 없는 답안은 새로 만든다.
+     */
+    public void upsertAll(Long attenderStateId, Map<Long, Answer> answers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        jdbcTemplate.batchUpdate(upsertSql, new ArrayList<>(answers.entrySet()), batchSize,
+            (ps, entry) -> {
+                ps.setLong(1, attenderStateId);
+                ps.setLong(2, entry.getKey());
+                ps.setString(3, answerConverter.convertToDatabaseColumn(entry.getValue()));
+                ps.setTimestamp(4, now);
+            });
+    }
+}
@@ -1,10 +1,24 @@
 package kr.pullgo.pullgoserver.persistence.repository;
 
+import java.util.List;
+import kr.pullgo.pullgoserver.persistence.model.Answer;
 import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface AttenderAnswerRepository extends BaseRepository<AttenderAnswer, Long> {
 
     boolean existsByAttenderStateIdAndQuestionId(Long attenderStateId, Long QuestionId);
+
+    List<AttenderAnswer> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update AttenderAnswer a set a.answer = :answer where a.id = :id")
+    int rewriteColumns(@Param("id") Long id, @Param("answer") Answer answer);
 }
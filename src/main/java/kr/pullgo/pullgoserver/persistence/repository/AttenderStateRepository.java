@@ -1,10 +1,34 @@
 package kr.pullgo.pullgoserver.persistence.repository;
 
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.LockModeType;
 import kr.pullgo.pullgoserver.persistence.model.AttenderState;
+import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AttenderStateRepository extends BaseRepository<AttenderState, Long> {
 
     boolean existsFindByAttenderIdAndExamId(Long attenderId, Long ExamId);
+
+    @EntityGraph(attributePaths = "answers")
+    List<AttenderState> findDistinctByExamIdAndProgress(Long examId, AttendingProgress progress);
+
+    // 채점하는 쪽과 같은 순서(id)로 잠가서 서로 기다리다 deadlock 에 빠지지 않게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s.id from AttenderState s where s.exam.id = :examId and s.progress = :progress"
+        + " order by s.id")
+    List<Long> findLockedIdsByExamIdAndProgress(@Param("examId") Long examId,
+        @Param("progress") AttendingProgress progress);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s.id from AttenderState s where s.id in :ids and s.progress = :progress"
+        + " order by s.id")
+    List<Long> findLockedIdsByIdInAndProgress(@Param("ids") Collection<Long> ids,
+        @Param("progress") AttendingProgress progress);
 }
@@ -0,0 +1,103 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link BaseRepository} 의 기본 구현. count 쿼리 없이 필요한 컬럼만 읽는 projection 조회를 추가한다.
+ */
+public class BaseJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> {
+
+    private static final String ROOT_ALIAS = "r";
+
+    private final EntityManager em;
+    private final boolean cacheable;
+
+    public BaseJpaRepository(JpaEntityInformation<T, ?> entityInformation,
+        EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.em = entityManager;
+        this.cacheable = entityInformation.getJavaType().isAnnotationPresent(Cache.class);
+    }
+
+    public <R> List<R> findAll(@Nullable Specification<T> spec, Pageable pageable,
+        Projection<T, R> projection) {
+        TypedQuery<Tuple> query = getProjectionQuery(spec, pageable.getSort(), projection);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return asResults(query, projection);
+    }
+
+    public <R> List<R> findAll(@Nullable Specification<T> spec, Sort sort, int limit,
+        Projection<T, R> projection) {
+        TypedQuery<Tuple> query = getProjectionQuery(spec, sort, projection);
+        query.setMaxResults(limit);
+        return asResults(query, projection);
+    }
+
+    private <R> TypedQuery<Tuple> getProjectionQuery(@Nullable Specification<T> spec, Sort sort,
+        Projection<T, R> projection) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(getDomainClass());
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, builder);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        List<Selection<?>> selections = new ArrayList<>();
+        projection.select(root, ROOT_ALIAS, selections);
+        query.multiselect(selections);
+        if (sort.isSorted()) {
+            query.orderBy(toOrders(sort, root, builder));
+        }
+        TypedQuery<Tuple> typedQuery = em.createQuery(query);
+        if (cacheable) {
+            // 쿼리 캐시가 꺼져 있으면 무시된다
+            typedQuery.setHint(QueryHints.CACHEABLE, true);
+        }
+        return typedQuery;
+    }
+
+    private static List<Order> toOrders(Sort sort, Root<?> root, CriteriaBuilder builder) {
+        // QueryUtils.toOrders 는 spec 이 만든 inner join 을 두고 left join 을 또 붙인다
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Expression<?> expression = CriteriaJoins.path(root, order.getProperty());
+            if (order.isIgnoreCase() && String.class.equals(expression.getJavaType())) {
+                expression = builder.lower(expression.as(String.class));
+            }
+            orders.add(order.isAscending() ? builder.asc(expression) : builder.desc(expression));
+        }
+        return orders;
+    }
+
+    private <R> List<R> asResults(TypedQuery<Tuple> query, Projection<T, R> projection) {
+        return query.getResultList().stream()
+            .map(tuple -> projection.asResult(tuple, ROOT_ALIAS))
+            .collect(Collectors.toList());
+    }
+}
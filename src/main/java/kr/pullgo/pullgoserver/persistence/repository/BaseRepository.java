@@ -1,8 +1,13 @@
 package kr.pullgo.pullgoserver.persistence.repository;
 
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Transactional;
 
 @NoRepositoryBean
@@ -10,4 +15,10 @@ public interface BaseRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecific
 
     @Transactional
     int removeById(ID id);
+
+    <R> List<R> findAll(@Nullable Specification<T> spec, Pageable pageable,
+        Projection<T, R> projection);
+
+    <R> List<R> findAll(@Nullable Specification<T> spec, Sort sort, int limit,
+        Projection<T, R> projection);
 }
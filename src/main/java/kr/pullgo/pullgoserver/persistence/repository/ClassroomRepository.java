@@ -6,4 +6,5 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ClassroomRepository extends BaseRepository<Classroom, Long> {
 
+    boolean existsByIdAndTeachersId(Long id, Long teacherId);
 }
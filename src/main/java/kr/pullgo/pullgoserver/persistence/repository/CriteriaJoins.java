@@ -0,0 +1,49 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+import org.springframework.lang.Nullable;
+
+/**
+ * spec 과 projection 이 같은 쿼리에서 같은 경로를 여러 번 join 하지 않도록 기존 join 을 찾아 쓴다.
+ */
+public class CriteriaJoins {
+
+    private CriteriaJoins() {
+    }
+
+    /**
+     * 이미 있는 inner join 을 재사용하고, 없을 때만 새로 join 한다.
+     */
+    public static <X, Y> Join<X, Y> join(From<?, X> from, String attribute) {
+        Join<X, Y> join = find(from, attribute, JoinType.INNER);
+        return join != null ? join : from.join(attribute);
+    }
+
+    /**
+     * 정렬용 경로. 이미 join 된 경로는 그대로 쓰고, 아니면 결과가 줄지 않도록 left join 한다.
+     */
+    public static Path<?> path(From<?, ?> from, String property) {
+        String[] attributes = property.split("\\.");
+        From<?, ?> current = from;
+        for (int i = 0; i < attributes.length - 1; i++) {
+            Join<?, ?> join = find(current, attributes[i], null);
+            current = join != null ? join : current.join(attributes[i], JoinType.LEFT);
+        }
+        return current.get(attributes[attributes.length - 1]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X, Y> Join<X, Y> find(From<?, X> from, String attribute,
+        @Nullable JoinType joinType) {
+        for (Join<X, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute)
+                && (joinType == null || join.getJoinType() == joinType)) {
+                return (Join<X, Y>) join;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import kr.pullgo.pullgoserver.persistence.model.ExamDeadline;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ExamDeadlineRepository extends BaseRepository<ExamDeadline, Long> {
+
+    // Hibernate 는 lock timeout -2 를 SKIP LOCKED 로 변환한다
+    String SKIP_LOCKED = "-2";
+    String LOCK_TIMEOUT = "javax.persistence.lock.timeout";
+
+    Optional<ExamDeadline> findByExamId(Long examId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = LOCK_TIMEOUT, value = SKIP_LOCKED))
+    Optional<ExamDeadline> findLockedByExamId(Long examId);
+
+    List<ExamDeadline> findByDueDateTimeBefore(LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    int removeByExamId(Long examId);
+}
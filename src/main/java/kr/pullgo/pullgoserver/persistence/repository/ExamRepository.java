@@ -1,9 +1,15 @@
 package kr.pullgo.pullgoserver.persistence.repository;
 
+import java.util.List;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ExamRepository extends BaseRepository<Exam, Long> {
 
+    @Query("select e from Exam e where e.finished = false and e.cancelled = false"
+        + " and not exists (select d from ExamDeadline d where d.examId = e.id)")
+    List<Exam> findOnGoingExamsWithoutDeadline();
+
 }
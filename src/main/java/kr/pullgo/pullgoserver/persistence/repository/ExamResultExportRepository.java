@@ -0,0 +1,77 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import java.util.LinkedHashMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import kr.pullgo.pullgoserver.dto.ExamResultDto;
+import kr.pullgo.pullgoserver.persistence.converter.AnswerConverter;
+import kr.pullgo.pullgoserver.persistence.converter.ColumnFormat;
+import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 시험 결과 내보내기. 엔티티를 만들지 않고 forward-only 결과를 한 행씩 읽어서, 응시자 수와 상관없이 답안지 하나만큼만 메모리에 둔다.
+ */
+@Repository
+public class ExamResultExportRepository {
+
+    private static final String RESULT_SQL = "select s.id, s.attender_id, c.username,"
+        + " c.full_name, s.progress, s.score, a.question_id, a.answer"
+        + " from attender_state s"
+        + " left join student t on t.id = s.attender_id"
+        + " left join account c on c.id = t.account_id"
+        + " left join attender_answer a on a.attender_state_id = s.id"
+        + " where s.exam_id = ?"
+        + " order by s.id, a.question_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AnswerConverter answerConverter;
+
+    @Autowired
+    public ExamResultExportRepository(DataSource dataSource,
+        @Value("${persistence.column-format:json}") ColumnFormat format,
+        @Value("${exam.export.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.answerConverter = new AnswerConverter(format);
+    }
+
+    /**
+     * 시험의 답안지를 id 순서로 하나씩 넘긴다. 트랜잭션 밖에서 불러도 된다.
+     */
+    public void forEachResult(Long examId, Consumer<ExamResultDto.Row> consumer) {
+        ExamResultDto.Row[] current = new ExamResultDto.Row[1];
+        jdbcTemplate.query(RESULT_SQL, (RowCallbackHandler) rs -> {
+            long attenderStateId = rs.getLong(1);
+            ExamResultDto.Row row = current[0];
+            if (row == null || row.getAttenderStateId() != attenderStateId) {
+                if (row != null) {
+                    consumer.accept(row);
+                }
+                row = ExamResultDto.Row.builder()
+                    .attenderStateId(attenderStateId)
+                    .attenderId(rs.getObject(2, Long.class))
+                    .username(rs.getString(3))
+                    .fullName(rs.getString(4))
+                    .progress(AttendingProgress.valueOf(rs.getString(5)))
+                    .score(rs.getObject(6, Integer.class))
+                    .answers(new LinkedHashMap<>())
+                    .build();
+                current[0] = row;
+            }
+            String answer = rs.getString(8);
+            if (answer != null) {
+                row.getAnswers().put(rs.getLong(7), new TreeSet<>(
+                    answerConverter.convertToEntityAttribute(answer).getObjectiveNumbers()));
+            }
+        }, examId);
+        if (current[0] != null) {
+            consumer.accept(current[0]);
+        }
+    }
+}
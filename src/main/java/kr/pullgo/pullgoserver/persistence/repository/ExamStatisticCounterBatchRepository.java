@@ -0,0 +1,59 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 통계 counter 에 값을 더한다. 읽지 않고 DB 에서 바로 더하므로 동시에 채점해도 값을 잃지 않는다.
+ */
+@Repository
+public class ExamStatisticCounterBatchRepository {
+
+    private static final String MYSQL_INCREMENT_SQL = "insert into exam_statistic_counter"
+        + " (exam_id, name, amount) values (?, ?, ?)"
+        + " on duplicate key update amount = amount + values(amount)";
+    private static final String MERGE_INCREMENT_SQL = "merge into exam_statistic_counter c"
+        + " using (select cast(? as bigint) exam_id, cast(? as varchar(255)) name,"
+        + " cast(? as bigint) delta from dual) s"
+        + " on c.exam_id = s.exam_id and c.name = s.name"
+        + " when matched then update set amount = amount + s.delta"
+        + " when not matched then insert (exam_id, name, amount)"
+        + " values (s.exam_id, s.name, s.delta)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final String incrementSql;
+
+    @Autowired
+    public ExamStatisticCounterBatchRepository(JdbcTemplate jdbcTemplate, DataSource dataSource,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize)
+        throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.incrementSql = UpsertSyntax.of(dataSource) == UpsertSyntax.ON_DUPLICATE_KEY
+            ? MYSQL_INCREMENT_SQL : MERGE_INCREMENT_SQL;
+    }
+
+    /**
+     * 현재 트랜잭션에서 counter 이름별로 값을 더한다. 없는 counter 는 새로 만든다.
+     * 같은 시험을 동시에 채점하는 트랜잭션끼리 서로 반대 순서로 행을 잠가 deadlock 이 나지 않도록 이름 순서로 쓴다.
+     */
+    public void incrementAll(Long examId, Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(incrementSql, new ArrayList<>(new TreeMap<>(deltas).entrySet()),
+            batchSize, (ps, entry) -> {
+                ps.setLong(1, examId);
+                ps.setString(2, entry.getKey());
+                ps.setLong(3, entry.getValue());
+            });
+    }
+}
@@ -0,0 +1,21 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import java.util.List;
+import kr.pullgo.pullgoserver.persistence.model.ExamStatisticCounter;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ExamStatisticCounterRepository
+    extends BaseRepository<ExamStatisticCounter, Long> {
+
+    List<ExamStatisticCounter> findByExamId(Long examId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ExamStatisticCounter c where c.examId = :examId")
+    int removeByExamId(@Param("examId") Long examId);
+}
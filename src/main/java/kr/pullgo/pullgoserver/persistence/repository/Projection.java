@@ -0,0 +1,17 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import java.util.List;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.Selection;
+
+/**
+ * 엔티티를 읽지 않고 필요한 컬럼만 골라 결과 객체를 바로 만든다.
+ * 다른 projection 안에 중첩될 수 있도록, 고른 컬럼의 alias 는 모두 주어진 alias 로 시작해야 한다.
+ */
+public interface Projection<E, R> {
+
+    void select(From<?, E> from, String alias, List<Selection<?>> selections);
+
+    R asResult(Tuple tuple, String alias);
+}
@@ -0,0 +1,90 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import kr.pullgo.pullgoserver.persistence.converter.AnswerConverter;
+import kr.pullgo.pullgoserver.persistence.converter.ChoiceConverter;
+import kr.pullgo.pullgoserver.persistence.converter.ColumnFormat;
+import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.model.Question;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Question 은 IDENTITY 키라서 Hibernate 가 insert 를 묶지 못한다. 대량 등록은 JDBC batch 로 직접 넣는다.
+ */
+@Repository
+public class QuestionBatchRepository {
+
+    private static final String INSERT_SQL = "insert into question"
+        + " (exam_id, content, picture_url, answer, multiple_choice, created_date, revision)"
+        + " values (?, ?, ?, ?, ?, ?, 0)";
+    private static final String EXAM_QUESTIONS_ROLE = Exam.class.getName() + ".questions";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache cache;
+    private final AnswerConverter answerConverter;
+    private final ChoiceConverter choiceConverter;
+    private final int batchSize;
+
+    @Autowired
+    public QuestionBatchRepository(JdbcTemplate jdbcTemplate,
+        EntityManagerFactory entityManagerFactory,
+        @Value("${persistence.column-format:json}") ColumnFormat format,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.answerConverter = new AnswerConverter(format);
+        this.choiceConverter = new ChoiceConverter(format);
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 현재 트랜잭션에서 insert 한다. 영속성 컨텍스트와 2차 캐시를 거치지 않으므로 관련 캐시는 여기서 비운다.
+     */
+    public void insertAll(Long examId, List<Question> questions) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        jdbcTemplate.batchUpdate(INSERT_SQL, questions, batchSize, (ps, question) -> {
+            ps.setLong(1, examId);
+            ps.setString(2, question.getContent());
+            if (question.getPictureUrl() == null) {
+                ps.setNull(3, Types.VARCHAR);
+            } else {
+                ps.setString(3, question.getPictureUrl());
+            }
+            ps.setString(4, answerConverter.convertToDatabaseColumn(question.getAnswer()));
+            ps.setString(5, choiceConverter.convertToDatabaseColumn(question.getMultipleChoice()));
+            ps.setTimestamp(6, now);
+        });
+
+        evictCaches(examId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictCaches(examId);
+                    }
+                });
+        }
+    }
+
+    private void evictCaches(Long examId) {
+        cache.evictCollectionData(EXAM_QUESTIONS_ROLE, examId);
+        cache.evictDefaultQueryRegion();
+    }
+}
@@ -1,9 +1,39 @@
 package kr.pullgo.pullgoserver.persistence.repository;
 
+import java.util.List;
+import kr.pullgo.pullgoserver.persistence.model.Answer;
+import kr.pullgo.pullgoserver.persistence.model.MultipleChoice;
 import kr.pullgo.pullgoserver.persistence.model.Question;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface QuestionRepository extends BaseRepository<Question, Long> {
 
+    List<Question> findByExamId(Long examId);
+
+    /**
+     * 시험의 문제가 추가, 수정, 삭제될 때마다 바뀌는 값. 노드마다 따로 캐시한 문제 정보가 최신인지 확인할 때 쓴다.
+     */
+    default String findVersionByExamId(Long examId) {
+        Object[] columns = findVersionColumnsByExamId(examId).get(0);
+        return columns[0] + "-" + columns[1] + "-" + columns[2];
+    }
+
+    @Query("select count(q), coalesce(max(q.id), 0), coalesce(sum(coalesce(q.revision, 0)), 0)"
+        + " from Question q where q.exam.id = :examId")
+    List<Object[]> findVersionColumnsByExamId(@Param("examId") Long examId);
+
+    List<Question> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update Question q set q.answer = :answer, q.multipleChoice = :multipleChoice"
+        + " where q.id = :id")
+    int rewriteColumns(@Param("id") Long id, @Param("answer") Answer answer,
+        @Param("multipleChoice") MultipleChoice multipleChoice);
 }
@@ -1,6 +1,8 @@
 package kr.pullgo.pullgoserver.persistence.repository;
 
 import kr.pullgo.pullgoserver.persistence.model.Student;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -8,4 +10,7 @@ public interface StudentRepository extends BaseRepository<Student, Long> {
 
     Student findByAccountId(Long accountId);
 
+    @Query("select e.id from Student e where e.account.id = :accountId")
+    Long findIdByAccountId(@Param("accountId") Long accountId);
+
 }
@@ -1,6 +1,8 @@
 package kr.pullgo.pullgoserver.persistence.repository;
 
 import kr.pullgo.pullgoserver.persistence.model.Teacher;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -8,4 +10,7 @@ public interface TeacherRepository extends BaseRepository<Teacher, Long> {
 
     Teacher findByAccountId(Long accountId);
 
+    @Query("select e.id from Teacher e where e.account.id = :accountId")
+    Long findIdByAccountId(@Param("accountId") Long accountId);
+
 }
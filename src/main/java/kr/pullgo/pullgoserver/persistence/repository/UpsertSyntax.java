@@ -0,0 +1,22 @@
+package kr.pullgo.pullgoserver.persistence.repository;
+
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+/**
+ * JDBC 로 직접 upsert 할 때 쓰는 문법. MySQL 은 ON DUPLICATE KEY UPDATE, 그 외(H2 등)는 표준 MERGE 를 쓴다.
+ */
+enum UpsertSyntax {
+    ON_DUPLICATE_KEY,
+    MERGE;
+
+    static UpsertSyntax of(DataSource dataSource) throws MetaDataAccessException {
+        String productName = JdbcUtils.extractDatabaseMetaData(dataSource,
+            DatabaseMetaData::getDatabaseProductName);
+        return DatabaseDriver.fromProductName(productName) == DatabaseDriver.MYSQL
+            ? ON_DUPLICATE_KEY : MERGE;
+    }
+}
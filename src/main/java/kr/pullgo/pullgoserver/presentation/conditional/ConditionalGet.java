@@ -0,0 +1,25 @@
+package kr.pullgo.pullgoserver.presentation.conditional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import kr.pullgo.pullgoserver.persistence.model.TimeEntity;
+
+/**
+ * 단건 조회 핸들러에 붙이면 ETag/Last-Modified 를 달고, 클라이언트 검증값이 맞으면 핸들러를 실행하지 않고 304 를
+ * 응답한다. 서비스에서 권한을 검사하는 핸들러에는 붙이지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    Class<? extends TimeEntity> value();
+
+    /**
+     * 응답 DTO 에 함께 들어가는 연관 엔티티 경로. 상위 경로를 먼저 쓴다.
+     */
+    String[] dependsOn() default {};
+
+    String idVariable() default "id";
+}
@@ -0,0 +1,62 @@
+package kr.pullgo.pullgoserver.presentation.conditional;
+
+import java.util.Map;
+import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import kr.pullgo.pullgoserver.service.helper.ResourceVersion;
+import kr.pullgo.pullgoserver.service.helper.ResourceVersionHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ResourceVersionHelper resourceVersionHelper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+        Object handler) {
+        if (!(handler instanceof HandlerMethod) || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        ConditionalGet conditionalGet = ((HandlerMethod) handler)
+            .getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+        Long id = parseId(request, conditionalGet.idVariable());
+        if (id == null) {
+            return true;
+        }
+        // 없는 리소스는 핸들러가 404 를 응답하도록 그대로 넘긴다
+        Optional<ResourceVersion> version = resourceVersionHelper.find(conditionalGet.value(), id,
+            conditionalGet.dependsOn());
+        if (version.isEmpty()) {
+            return true;
+        }
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        return !webRequest.checkNotModified(version.get().getETag(),
+            version.get().getLastModified());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long parseId(HttpServletRequest request, String idVariable) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(
+            HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get(idVariable) == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(variables.get(idVariable));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
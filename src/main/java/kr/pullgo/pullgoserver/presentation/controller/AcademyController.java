@@ -2,9 +2,11 @@ package kr.pullgo.pullgoserver.presentation.controller;
 
 
 import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import kr.pullgo.pullgoserver.dto.AcademyDto;
 import kr.pullgo.pullgoserver.persistence.model.Academy;
+import kr.pullgo.pullgoserver.presentation.conditional.ConditionalGet;
 import kr.pullgo.pullgoserver.service.AcademyService;
 import kr.pullgo.pullgoserver.service.spec.AcademySpecs;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,7 +44,9 @@ public class AcademyController {
         @RequestParam(required = false) Long teacherId,
         @RequestParam(required = false) Long applyingTeacherId,
         @RequestParam(required = false) String nameLike,
-        Pageable pageable
+        @RequestParam(required = false) String cursor,
+        Pageable pageable,
+        HttpServletResponse response
     ) {
         Specification<Academy> spec = null;
         if (ownerId != null) {
@@ -64,9 +68,14 @@ public class AcademyController {
             spec = AcademySpecs.nameLike("%" + nameLike + "%").and(spec);
         }
 
+        if (cursor != null) {
+            return CursorResponses.toBody(
+                academyService.search(spec, cursor, pageable.getPageSize()), response);
+        }
         return academyService.search(spec, pageable);
     }
 
+    @ConditionalGet(Academy.class)
     @GetMapping("/academies/{id}")
     public AcademyDto.Result get(@PathVariable Long id) {
         return academyService.read(id);
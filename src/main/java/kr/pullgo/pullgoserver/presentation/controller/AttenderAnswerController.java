@@ -1,7 +1,14 @@
 package kr.pullgo.pullgoserver.presentation.controller;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import kr.pullgo.pullgoserver.dto.AttenderAnswerDto;
 import kr.pullgo.pullgoserver.dto.AttenderAnswerDto.Result;
 import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
@@ -22,28 +29,38 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @Validated
 @RestController
 public class AttenderAnswerController {
 
     private final AttenderAnswerService attenderAnswerService;
+    private final Validator validator;
 
     @Autowired
-    public AttenderAnswerController(AttenderAnswerService attenderAnswerService) {
+    public AttenderAnswerController(AttenderAnswerService attenderAnswerService,
+        Validator validator) {
         this.attenderAnswerService = attenderAnswerService;
+        this.validator = validator;
     }
 
     @GetMapping("/exam/attender-state/answers")
     public List<Result> search(
         @RequestParam(required = false) Long attenderStateId,
-        Pageable pageable
+        @RequestParam(required = false) String cursor,
+        Pageable pageable,
+        HttpServletResponse response
     ) {
         Specification<AttenderAnswer> spec = null;
         if (attenderStateId != null) {
             spec = AttenderAnswerSpecs.belongsTo(attenderStateId).and(spec);
         }
 
+        if (cursor != null) {
+            return CursorResponses.toBody(
+                attenderAnswerService.search(spec, cursor, pageable.getPageSize()), response);
+        }
         return attenderAnswerService.search(spec, pageable);
     }
 
@@ -60,6 +77,28 @@ public class AttenderAnswerController {
         attenderAnswerService.delete(attenderStateId, questionId, authentication);
     }
 
+    @PutMapping("/exam/attender-state/{attenderStateId}/answers")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void putAll(@PathVariable Long attenderStateId,
+        @Valid @RequestBody Map<Long, AttenderAnswerDto.Put> dtos,
+        Authentication authentication) {
+        // Map 으로 받은 body 는 @Valid 가 값마다 검사하지 않으므로 직접 검사한다
+        Map<Long, Set<Integer>> answers = new HashMap<>();
+        dtos.forEach((questionId, dto) -> {
+            if (dto == null) {
+                throw badRequest(questionId + " must not be null");
+            }
+            Set<ConstraintViolation<AttenderAnswerDto.Put>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                throw badRequest(violations.stream()
+                    .map(it -> questionId + "." + it.getPropertyPath() + " " + it.getMessage())
+                    .collect(Collectors.joining(", ")));
+            }
+            answers.put(questionId, dto.getAnswer());
+        });
+        attenderAnswerService.putAll(attenderStateId, answers, authentication);
+    }
+
     @PutMapping("/exam/attender-state/{attenderStateId}/answers/{questionId}")
     public ResponseEntity<AttenderAnswerDto.Result> put(@PathVariable Long attenderStateId,
         @PathVariable Long questionId,
@@ -79,4 +118,7 @@ public class AttenderAnswerController {
         }
     }
 
+    private static ResponseStatusException badRequest(String reason) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, reason);
+    }
 }
@@ -1,6 +1,7 @@
 package kr.pullgo.pullgoserver.presentation.controller;
 
 import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import kr.pullgo.pullgoserver.dto.AttenderStateDto;
 import kr.pullgo.pullgoserver.persistence.model.AttenderState;
@@ -46,7 +47,9 @@ public class AttenderStateController {
         @RequestParam(required = false) Long studentId,
         @RequestParam(required = false) Long examId,
         @RequestParam(required = false) AttendingProgress progress,
-        Pageable pageable
+        @RequestParam(required = false) String cursor,
+        Pageable pageable,
+        HttpServletResponse response
     ) {
         Specification<AttenderState> spec = null;
         if (studentId != null) {
@@ -59,6 +62,10 @@ public class AttenderStateController {
             spec = AttenderStateSpecs.progress(progress).and(spec);
         }
 
+        if (cursor != null) {
+            return CursorResponses.toBody(
+                attenderStateService.search(spec, cursor, pageable.getPageSize()), response);
+        }
         return attenderStateService.search(spec, pageable);
     }
 
@@ -1,9 +1,11 @@
 package kr.pullgo.pullgoserver.presentation.controller;
 
 import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import kr.pullgo.pullgoserver.dto.ClassroomDto;
 import kr.pullgo.pullgoserver.persistence.model.Classroom;
+import kr.pullgo.pullgoserver.presentation.conditional.ConditionalGet;
 import kr.pullgo.pullgoserver.service.ClassroomService;
 import kr.pullgo.pullgoserver.service.spec.ClassroomSpecs;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,7 +43,9 @@ public class ClassroomController {
         @RequestParam(required = false) Long teacherId,
         @RequestParam(required = false) Long applyingTeacherId,
         @RequestParam(required = false) String nameLike,
-        Pageable pageable
+        @RequestParam(required = false) String cursor,
+        Pageable pageable,
+        HttpServletResponse response
     ) {
         Specification<Classroom> spec = null;
         if (academyId != null) {
@@ -63,9 +67,14 @@ public class ClassroomController {
             spec = ClassroomSpecs.nameLike("%" + nameLike + "%").and(spec);
         }
 
+        if (cursor != null) {
+            return CursorResponses.toBody(
+                classroomService.search(spec, cursor, pageable.getPageSize()), response);
+        }
         return classroomService.search(spec, pageable);
     }
 
+    @ConditionalGet(value = Classroom.class, dependsOn = {"creator", "creator.account"})
     @GetMapping("/academy/classrooms/{id}")
     public ClassroomDto.Result get(@PathVariable Long id) {
         return classroomService.read(id);
@@ -0,0 +1,18 @@
+package kr.pullgo.pullgoserver.presentation.controller;
+
+import java.util.List;
+import javax.servlet.http.HttpServletResponse;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
+
+class CursorResponses {
+
+    /**
+     * 다음 페이지 cursor 는 응답 body 형태를 바꾸지 않도록 헤더로 내려준다.
+     */
+    static <T> List<T> toBody(CursorPage<T> page, HttpServletResponse response) {
+        if (page.getNextCursor() != null) {
+            response.setHeader(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return page.getContent();
+    }
+}
@@ -1,17 +1,26 @@
 package kr.pullgo.pullgoserver.presentation.controller;
 
 import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import kr.pullgo.pullgoserver.dto.ExamDto;
+import kr.pullgo.pullgoserver.dto.ExamResultDto;
+import kr.pullgo.pullgoserver.dto.ExamStatisticsDto;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.presentation.conditional.ConditionalGet;
 import kr.pullgo.pullgoserver.service.exam.ExamCancelService;
 import kr.pullgo.pullgoserver.service.exam.ExamCrudService;
 import kr.pullgo.pullgoserver.service.exam.ExamFinishService;
+import kr.pullgo.pullgoserver.service.exam.ExamResultExportService;
+import kr.pullgo.pullgoserver.service.exam.ExamStatisticsService;
 import kr.pullgo.pullgoserver.service.spec.ExamSpecs;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Validated
 @RestController
@@ -32,6 +42,8 @@ public class ExamController {
     private final ExamCrudService examCrudService;
     private final ExamFinishService examFinishService;
     private final ExamCancelService examCancelService;
+    private final ExamStatisticsService examStatisticsService;
+    private final ExamResultExportService examResultExportService;
 
     @PostMapping("/exams")
     @ResponseStatus(HttpStatus.CREATED)
@@ -47,7 +59,9 @@ public class ExamController {
         @RequestParam(required = false) Long studentId,
         @RequestParam(required = false) Boolean finished,
         @RequestParam(required = false) Boolean cancelled,
-        Pageable pageable
+        @RequestParam(required = false) String cursor,
+        Pageable pageable,
+        HttpServletResponse response
     ) {
         Specification<Exam> spec = null;
         if (classroomId != null) {
@@ -65,9 +79,14 @@ public class ExamController {
         if (cancelled != null) {
             spec = ExamSpecs.isItCancelled(cancelled).and(spec);
         }
+        if (cursor != null) {
+            return CursorResponses.toBody(
+                examCrudService.search(spec, cursor, pageable.getPageSize()), response);
+        }
         return examCrudService.search(spec, pageable);
     }
 
+    @ConditionalGet(Exam.class)
     @GetMapping("/exams/{id}")
     public ExamDto.Result get(@PathVariable Long id) {
         return examCrudService.read(id);
@@ -96,4 +115,30 @@ public class ExamController {
     public void finish(@PathVariable Long id, Authentication authentication) {
         examFinishService.finishExam(id, authentication);
     }
+
+    @GetMapping("/exams/{id}/statistics")
+    public ExamStatisticsDto.Result getStatistics(@PathVariable Long id,
+        Authentication authentication) {
+        return examStatisticsService.read(id, authentication);
+    }
+
+    @PostMapping("/exams/{id}/statistics/rebuild")
+    public ExamStatisticsDto.Result rebuildStatistics(@PathVariable Long id,
+        Authentication authentication) {
+        return examStatisticsService.rebuild(id, authentication);
+    }
+
+    @GetMapping("/exams/{id}/results")
+    public ResponseEntity<StreamingResponseBody> exportResults(@PathVariable Long id,
+        @RequestParam(defaultValue = "CSV") ExamResultDto.Format format,
+        Authentication authentication) {
+        StreamingResponseBody body = examResultExportService.export(id, format, authentication);
+        ContentDisposition disposition = ContentDisposition.attachment()
+            .filename("exam-" + id + "-results." + format.getExtension())
+            .build();
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+            .body(body);
+    }
 }
@@ -0,0 +1,80 @@
+package kr.pullgo.pullgoserver.presentation.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 요청 Body 의 JSON 배열을 전부 올려놓지 않고 원소 하나씩 읽고 검증한다.
+ */
+class JsonArrayIterator<T> implements Iterator<T> {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final Validator validator;
+    private JsonToken current;
+
+    JsonArrayIterator(JsonParser parser, ObjectReader reader, Validator validator) {
+        this.parser = parser;
+        this.reader = reader;
+        this.validator = validator;
+        if (nextToken() != JsonToken.START_ARRAY) {
+            throw badRequest("JSON array expected");
+        }
+        this.current = nextToken();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T value;
+        try {
+            value = reader.readValue(parser);
+        } catch (JsonProcessingException e) {
+            throw badRequest(e.getOriginalMessage());
+        } catch (IOException e) {
+            throw badRequest("Malformed JSON");
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            throw badRequest(violations.stream()
+                .map(it -> it.getPropertyPath() + " " + it.getMessage())
+                .collect(Collectors.joining(", ")));
+        }
+        current = nextToken();
+        return value;
+    }
+
+    private JsonToken nextToken() {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw badRequest("Unexpected end of JSON array");
+            }
+            return token;
+        } catch (IOException e) {
+            throw badRequest("Malformed JSON");
+        }
+    }
+
+    private static ResponseStatusException badRequest(String reason) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, reason);
+    }
+}
@@ -2,6 +2,7 @@ package kr.pullgo.pullgoserver.presentation.controller;
 
 import java.time.LocalDate;
 import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import kr.pullgo.pullgoserver.dto.LessonDto;
 import kr.pullgo.pullgoserver.persistence.model.Lesson;
@@ -50,7 +51,9 @@ public class LessonController {
         @RequestParam(required = false) Long teacherId,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate sinceDate,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate untilDate,
-        Pageable pageable
+        @RequestParam(required = false) String cursor,
+        Pageable pageable,
+        HttpServletResponse response
     ) {
         Specification<Lesson> spec = null;
         if (classroomId != null) {
@@ -72,6 +75,10 @@ public class LessonController {
             spec = LessonSpecs.untilDate(untilDate).and(spec);
         }
 
+        if (cursor != null) {
+            return CursorResponses.toBody(
+                lessonService.search(spec, cursor, pageable.getPageSize()), response);
+        }
         return lessonService.search(spec, pageable);
     }
 
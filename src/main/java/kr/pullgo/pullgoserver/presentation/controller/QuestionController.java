@@ -1,16 +1,27 @@
 package kr.pullgo.pullgoserver.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import kr.pullgo.pullgoserver.dto.QuestionDto;
 import kr.pullgo.pullgoserver.persistence.model.Question;
 import kr.pullgo.pullgoserver.service.QuestionService;
+import kr.pullgo.pullgoserver.service.exam.QuestionSnapshot;
+import kr.pullgo.pullgoserver.service.exam.QuestionSnapshotService;
 import kr.pullgo.pullgoserver.service.spec.QuestionSpecs;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -28,10 +39,20 @@ import org.springframework.web.bind.annotation.RestController;
 public class QuestionController {
 
     private final QuestionService questionService;
+    private final QuestionSnapshotService questionSnapshotService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader createReader;
+    private final Validator validator;
 
     @Autowired
-    public QuestionController(QuestionService questionService) {
+    public QuestionController(QuestionService questionService,
+        QuestionSnapshotService questionSnapshotService, ObjectMapper objectMapper,
+        Validator validator) {
         this.questionService = questionService;
+        this.questionSnapshotService = questionSnapshotService;
+        this.objectMapper = objectMapper;
+        this.createReader = objectMapper.readerFor(QuestionDto.Create.class);
+        this.validator = validator;
     }
 
     @PostMapping("/exam/questions")
@@ -41,26 +62,46 @@ public class QuestionController {
         return questionService.create(dto, authentication);
     }
 
-    @PostMapping("/exam/questions/bulk")
+    // 문제 수백 개를 한 번에 올리므로 Body 를 List 로 바인딩하지 않고 읽으면서 바로 넣는다
+    @PostMapping(value = "/exam/questions/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.CREATED)
-    public void post(@Valid @RequestBody List<QuestionDto.Create> dtos,
-        Authentication authentication) {
-        questionService.create(dtos, authentication);
+    public void post(HttpServletRequest request, Authentication authentication)
+        throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(request.getInputStream())) {
+            questionService.create(new JsonArrayIterator<>(parser, createReader, validator),
+                authentication);
+        }
     }
 
     @GetMapping("/exam/questions")
     public List<QuestionDto.Result> search(
         @RequestParam(required = false) Long examId,
-        Pageable pageable
+        @RequestParam(required = false) String cursor,
+        Pageable pageable,
+        HttpServletResponse response
     ) {
         Specification<Question> spec = null;
         if (examId != null) {
             spec = QuestionSpecs.belongsTo(examId).and(spec);
         }
 
+        if (cursor != null) {
+            return CursorResponses.toBody(
+                questionService.search(spec, cursor, pageable.getPageSize()), response);
+        }
         return questionService.search(spec, pageable);
     }
 
+    // 시험 문제 목록은 미리 직렬화한 스냅샷에서 바로 내려준다. If-None-Match 가 맞으면 304 를 돌려준다
+    @GetMapping(value = "/exam/questions", params = {"examId", "!cursor", "!sort"})
+    public ResponseEntity<byte[]> searchByExam(@RequestParam Long examId, Pageable pageable) {
+        QuestionSnapshot snapshot = questionSnapshotService.getSnapshot(examId);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(snapshot.eTag(pageable.getOffset(), pageable.getPageSize()))
+            .body(snapshot.render(pageable.getOffset(), pageable.getPageSize()));
+    }
+
     @GetMapping("/exam/questions/{id}")
     public QuestionDto.Result get(@PathVariable Long id) {
         return questionService.read(id);
@@ -1,6 +1,7 @@
 package kr.pullgo.pullgoserver.presentation.controller;
 
 import java.util.List;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import kr.pullgo.pullgoserver.dto.AccountDto;
 import kr.pullgo.pullgoserver.dto.StudentDto;
@@ -46,7 +47,9 @@ public class StudentController {
         @RequestParam(required = false) Long appliedAcademyId,
         @RequestParam(required = false) Long classroomId,
         @RequestParam(required = false) Long appliedClassroomId,
-        Pageable pageable
+        @RequestParam(required = false) String cursor,
+        Pageable pageable,
+        HttpServletResponse response
     ) {
         Specification<Student> spec = null;
         if (academyId != null) {
@@ -62,6 +65,10 @@ public class StudentController {
             spec = StudentSpecs.hasAppliedToClassroom(appliedClassroomId).and(spec);
         }
 
+        if (cursor != null) {
+            return CursorResponses.toBody(
+                studentService.search(spec, cursor, pageable.getPageSize()), response);
+        }
         return studentService.search(spec, pageable);
     }
 
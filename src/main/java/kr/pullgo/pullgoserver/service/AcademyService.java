@@ -13,6 +13,8 @@ import kr.pullgo.pullgoserver.persistence.repository.AcademyRepository;
 import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
 import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
 import kr.pullgo.pullgoserver.service.authorizer.AcademyAuthorizer;
+import kr.pullgo.pullgoserver.service.helper.CursorHelper;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +33,7 @@ public class AcademyService {
     private final TeacherRepository teacherRepository;
     private final StudentRepository studentRepository;
     private final RepositoryHelper repoHelper;
+    private final CursorHelper cursorHelper;
     private final ServiceErrorHelper errorHelper;
     private final AcademyAuthorizer academyAuthorizer;
 
@@ -40,6 +43,7 @@ public class AcademyService {
         TeacherRepository teacherRepository,
         StudentRepository studentRepository,
         RepositoryHelper repoHelper,
+        CursorHelper cursorHelper,
         ServiceErrorHelper errorHelper,
         AcademyAuthorizer academyAuthorizer) {
         this.dtoMapper = dtoMapper;
@@ -47,6 +51,7 @@ public class AcademyService {
         this.teacherRepository = teacherRepository;
         this.studentRepository = studentRepository;
         this.repoHelper = repoHelper;
+        this.cursorHelper = cursorHelper;
         this.errorHelper = errorHelper;
         this.academyAuthorizer = academyAuthorizer;
     }
@@ -72,8 +77,14 @@ public class AcademyService {
 
     @Transactional(readOnly = true)
     public List<AcademyDto.Result> search(Specification<Academy> spec, Pageable pageable) {
-        Page<Academy> entities = academyRepository.findAll(spec, pageable);
-        return dtoMapper.asResultDto(entities);
+        return academyRepository.findAll(spec, pageable, dtoMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<AcademyDto.Result> search(Specification<Academy> spec, String cursor,
+        int size) {
+        return cursorHelper.searchById(academyRepository, spec, cursor, size, dtoMapper,
+            AcademyDto.Result::getId);
     }
 
     @Transactional
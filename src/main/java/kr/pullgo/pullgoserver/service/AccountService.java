@@ -1,5 +1,6 @@
 package kr.pullgo.pullgoserver.service;
 
+import kr.pullgo.pullgoserver.config.security.AuthenticationCache;
 import kr.pullgo.pullgoserver.dto.AccountDto;
 import kr.pullgo.pullgoserver.dto.mapper.AccountDtoMapper;
 import kr.pullgo.pullgoserver.error.exception.AccountAlreadyEnrolledException;
@@ -20,15 +21,18 @@ public class AccountService {
     private final PasswordEncoder passwordEncoder;
     private final AccountRepository accountRepository;
     private final ServiceErrorHelper errorHelper;
+    private final AuthenticationCache authenticationCache;
 
     @Autowired
     public AccountService(AccountDtoMapper dtoMapper, PasswordEncoder passwordEncoder,
         AccountRepository accountRepository,
-        ServiceErrorHelper errorHelper) {
+        ServiceErrorHelper errorHelper,
+        AuthenticationCache authenticationCache) {
         this.dtoMapper = dtoMapper;
         this.passwordEncoder = passwordEncoder;
         this.accountRepository = accountRepository;
         this.errorHelper = errorHelper;
+        this.authenticationCache = authenticationCache;
     }
 
     public Account create(AccountDto.Create dto) {
@@ -59,6 +63,10 @@ public class AccountService {
         }
     }
 
+    public void invalidateAuthentication(Account entity) {
+        authenticationCache.evictAccount(entity.getId());
+    }
+
     public boolean checkDuplicateUsername(String username) {
         try {
             checkAlreadyEnrollment(username);
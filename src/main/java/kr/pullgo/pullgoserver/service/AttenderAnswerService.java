@@ -1,17 +1,26 @@
 package kr.pullgo.pullgoserver.service;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import kr.pullgo.pullgoserver.dto.AttenderAnswerDto;
 import kr.pullgo.pullgoserver.dto.mapper.AttenderAnswerDtoMapper;
 import kr.pullgo.pullgoserver.persistence.model.Answer;
+import kr.pullgo.pullgoserver.persistence.model.AnswerKey;
 import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
 import kr.pullgo.pullgoserver.persistence.model.AttenderState;
 import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
 import kr.pullgo.pullgoserver.persistence.model.Question;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
 import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerRepository;
 import kr.pullgo.pullgoserver.service.authorizer.AttenderAnswerAuthorizer;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.AnswerWriteBuffer;
+import kr.pullgo.pullgoserver.service.helper.CursorHelper;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,19 +37,31 @@ public class AttenderAnswerService {
 
     private final AttenderAnswerDtoMapper dtoMapper;
     private final AttenderAnswerRepository attenderAnswerRepository;
+    private final AttenderAnswerBatchRepository attenderAnswerBatchRepository;
+    private final AnswerKeyService answerKeyService;
+    private final AnswerWriteBuffer answerWriteBuffer;
     private final RepositoryHelper repoHelper;
+    private final CursorHelper cursorHelper;
     private final ServiceErrorHelper errorHelper;
     private final AttenderAnswerAuthorizer attenderAnswerAuthorizer;
 
     @Autowired
     public AttenderAnswerService(AttenderAnswerDtoMapper dtoMapper,
         AttenderAnswerRepository attenderAnswerRepository,
+        AttenderAnswerBatchRepository attenderAnswerBatchRepository,
+        AnswerKeyService answerKeyService,
+        AnswerWriteBuffer answerWriteBuffer,
         RepositoryHelper repoHelper,
+        CursorHelper cursorHelper,
         ServiceErrorHelper errorHelper,
         AttenderAnswerAuthorizer attenderAnswerAuthorizer) {
         this.dtoMapper = dtoMapper;
         this.attenderAnswerRepository = attenderAnswerRepository;
+        this.attenderAnswerBatchRepository = attenderAnswerBatchRepository;
+        this.answerKeyService = answerKeyService;
+        this.answerWriteBuffer = answerWriteBuffer;
         this.repoHelper = repoHelper;
+        this.cursorHelper = cursorHelper;
         this.errorHelper = errorHelper;
         this.attenderAnswerAuthorizer = attenderAnswerAuthorizer;
     }
@@ -52,27 +73,62 @@ public class AttenderAnswerService {
         attenderAnswerAuthorizer.requireByOneself(authentication, attenderState.getAttender());
         checkAttenderStateValidations(attenderState);
 
-        AttenderAnswer attenderAnswer = dtoMapper.asEntity(dto);
-
         Question question = repoHelper.findQuestionOrThrow(dto.getQuestionId());
-        attenderAnswer.setQuestion(question);
 
-        attenderState.addAnswer(attenderAnswer);
+        // 같은 문제에 동시에 들어온 생성 요청은 upsert 로 합쳐진다
+        attenderAnswerBatchRepository.upsert(attenderState.getId(), question.getId(),
+            new Answer(dto.getAnswer()));
+        return dtoMapper.asResultDto(
+            repoHelper.findAttenderAnswerOrThrow(attenderState.getId(), question.getId()));
+    }
+
+    @Transactional
+    public void putAll(Long attenderStateId, Map<Long, Set<Integer>> answers,
+        Authentication authentication) {
+        // 제출, 버퍼 flush 와 겹치지 않도록 응시 상태를 잠근다
+        AttenderState attenderState = repoHelper.findLockedAttenderStateOrThrow(attenderStateId);
+        attenderAnswerAuthorizer.requireByOneself(authentication, attenderState.getAttender());
+        checkAttenderStateValidations(attenderState);
 
-        return dtoMapper.asResultDto(attenderAnswerRepository.save(attenderAnswer));
+        // 문제가 이 시험 소속인지는 캐시된 채점표로 확인한다
+        AnswerKey answerKey = answerKeyService.getAnswerKey(attenderState.getExam().getId());
+        Map<Long, Answer> sheet = new HashMap<>();
+        answers.forEach((questionId, answer) -> {
+            if (!answerKey.contains(questionId)) {
+                throw errorHelper.notFound("Question " + questionId + " was not found in the exam");
+            }
+            if (answer == null || answer.isEmpty()) {
+                throw errorHelper.badRequest("Answer of question " + questionId + " is empty");
+            }
+            sheet.put(questionId, new Answer(answer));
+        });
+        if (!sheet.isEmpty()) {
+            answerWriteBuffer.flush(attenderStateId);
+            attenderAnswerBatchRepository.upsertAll(attenderStateId, sheet);
+        }
     }
 
     @Transactional(readOnly = true)
     public AttenderAnswerDto.Result read(Long attenderStateId, Long questionId) {
         AttenderAnswer entity = repoHelper.findAttenderAnswerOrThrow(attenderStateId, questionId);
-        return dtoMapper.asResultDto(entity);
+        AttenderAnswerDto.Result result = dtoMapper.asResultDto(entity);
+        // 아직 버퍼에만 있는 답안이 더 최신이다
+        return answerWriteBuffer.find(attenderStateId, questionId)
+            .map(answer -> result.withAnswer(answer.getObjectiveNumbers()))
+            .orElse(result);
     }
 
     @Transactional(readOnly = true)
     public List<AttenderAnswerDto.Result> search(Specification<AttenderAnswer> spec,
         Pageable pageable) {
-        Page<AttenderAnswer> entities = attenderAnswerRepository.findAll(spec, pageable);
-        return dtoMapper.asResultDto(entities);
+        return attenderAnswerRepository.findAll(spec, pageable, dtoMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<AttenderAnswerDto.Result> search(Specification<AttenderAnswer> spec, String cursor,
+        int size) {
+        return cursorHelper.searchById(attenderAnswerRepository, spec, cursor, size, dtoMapper,
+            AttenderAnswerDto.Result::getId);
     }
 
     @Transactional
@@ -85,6 +141,11 @@ public class AttenderAnswerService {
         AttenderState attenderState = entity.getAttenderState();
         checkAttenderStateValidations(attenderState);
 
+        if (dto.getAnswer() != null && answerWriteBuffer.isEnabled()) {
+            answerWriteBuffer.write(attenderState.getExam().getId(), attenderStateId, questionId,
+                new Answer(dto.getAnswer()));
+            return dtoMapper.asResultDto(entity).withAnswer(dto.getAnswer());
+        }
         if (dto.getAnswer() != null) {
             entity.setAnswer(new Answer(dto.getAnswer()));
         }
@@ -96,6 +157,9 @@ public class AttenderAnswerService {
         AttenderAnswer entity = repoHelper.findAttenderAnswerOrThrow(attenderStateId, questionId);
         attenderAnswerAuthorizer.requireOwningAttender(authentication, entity);
 
+        // 버퍼에 남은 답안이 나중에 지운 답안을 되살리지 않도록 응시 상태를 잠그고 먼저 쓴다
+        repoHelper.findLockedAttenderStateOrThrow(attenderStateId);
+        answerWriteBuffer.flush(attenderStateId);
         entity.setAttenderState(null);
         attenderAnswerRepository.delete(entity);
     }
@@ -5,12 +5,18 @@ import java.util.List;
 import kr.pullgo.pullgoserver.dto.AttenderStateDto;
 import kr.pullgo.pullgoserver.dto.mapper.AttenderStateDtoMapper;
 import kr.pullgo.pullgoserver.error.exception.AttenderStateSubmitOnNoQuestionsOnExamException;
+import kr.pullgo.pullgoserver.persistence.model.AnswerKey;
 import kr.pullgo.pullgoserver.persistence.model.AttenderState;
 import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
 import kr.pullgo.pullgoserver.persistence.model.Student;
 import kr.pullgo.pullgoserver.persistence.repository.AttenderStateRepository;
 import kr.pullgo.pullgoserver.service.authorizer.AttenderStateAuthorizer;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.AnswerWriteBuffer;
+import kr.pullgo.pullgoserver.service.exam.ExamStatisticsService;
+import kr.pullgo.pullgoserver.service.helper.CursorHelper;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,20 +33,32 @@ public class AttenderStateService {
     private final AttenderStateDtoMapper dtoMapper;
     private final AttenderStateRepository attenderStateRepository;
     private final RepositoryHelper repoHelper;
+    private final CursorHelper cursorHelper;
     private final ServiceErrorHelper errorHelper;
     private final AttenderStateAuthorizer attenderStateAuthorizer;
+    private final AnswerKeyService answerKeyService;
+    private final AnswerWriteBuffer answerWriteBuffer;
+    private final ExamStatisticsService examStatisticsService;
 
     @Autowired
     public AttenderStateService(AttenderStateDtoMapper dtoMapper,
         AttenderStateRepository attenderStateRepository,
         RepositoryHelper repoHelper,
+        CursorHelper cursorHelper,
         ServiceErrorHelper errorHelper,
-        AttenderStateAuthorizer attenderStateAuthorizer) {
+        AttenderStateAuthorizer attenderStateAuthorizer,
+        AnswerKeyService answerKeyService,
+        AnswerWriteBuffer answerWriteBuffer,
+        ExamStatisticsService examStatisticsService) {
         this.dtoMapper = dtoMapper;
         this.attenderStateRepository = attenderStateRepository;
         this.repoHelper = repoHelper;
+        this.cursorHelper = cursorHelper;
         this.errorHelper = errorHelper;
         this.attenderStateAuthorizer = attenderStateAuthorizer;
+        this.answerKeyService = answerKeyService;
+        this.answerWriteBuffer = answerWriteBuffer;
+        this.examStatisticsService = examStatisticsService;
     }
 
     @Transactional
@@ -79,8 +97,14 @@ public class AttenderStateService {
     @Transactional(readOnly = true)
     public List<AttenderStateDto.Result> search(Specification<AttenderState> spec,
         Pageable pageable) {
-        Page<AttenderState> entities = attenderStateRepository.findAll(spec, pageable);
-        return dtoMapper.asResultDto(entities);
+        return attenderStateRepository.findAll(spec, pageable, dtoMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<AttenderStateDto.Result> search(Specification<AttenderState> spec, String cursor,
+        int size) {
+        return cursorHelper.searchById(attenderStateRepository, spec, cursor, size, dtoMapper,
+            AttenderStateDto.Result::getId);
     }
 
     @Transactional
@@ -88,12 +112,14 @@ public class AttenderStateService {
         AttenderState entity = repoHelper.findAttenderStateOrThrow(id);
         attenderStateAuthorizer.requireOwningAttender(authentication, entity);
 
+        examStatisticsService.retract(entity.getExam(), entity);
         attenderStateRepository.delete(entity);
     }
 
     @Transactional
     public void submit(Long id, Authentication authentication) {
-        AttenderState attenderState = repoHelper.findAttenderStateOrThrow(id);
+        // 같은 답안지를 동시에 제출하거나 시험 마감과 겹쳐도 한 번만 채점하도록 먼저 잠근다
+        AttenderState attenderState = repoHelper.findLockedAttenderStateOrThrow(id);
         attenderStateAuthorizer.requireOwningAttender(authentication, attenderState);
 
         Exam exam = attenderState.getExam();
@@ -114,11 +140,17 @@ public class AttenderStateService {
         if (attenderState.isOutOfTimeRange(LocalDateTime.now())) {
             throw errorHelper.badRequest("Attender state submitted after time range");
         }
+        answerWriteBuffer.flush(attenderState.getId());
+        AnswerKey answerKey = answerKeyService.getAnswerKey(exam.getId());
+        boolean marked;
         try {
-            attenderState.mark();
+            marked = attenderState.mark(answerKey);
         } catch (AttenderStateSubmitOnNoQuestionsOnExamException e) {
             throw errorHelper.badRequest("There is no question in exam");
         }
+        if (marked) {
+            examStatisticsService.record(exam, List.of(attenderState), answerKey);
+        }
     }
 
 }
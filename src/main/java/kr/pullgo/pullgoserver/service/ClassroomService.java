@@ -14,6 +14,8 @@ import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
 import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
 import kr.pullgo.pullgoserver.service.authorizer.AcademyAuthorizer;
 import kr.pullgo.pullgoserver.service.authorizer.ClassroomAuthorizer;
+import kr.pullgo.pullgoserver.service.helper.CursorHelper;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +34,7 @@ public class ClassroomService {
     private final TeacherRepository teacherRepository;
     private final StudentRepository studentRepository;
     private final RepositoryHelper repoHelper;
+    private final CursorHelper cursorHelper;
     private final ServiceErrorHelper errorHelper;
     private final ClassroomAuthorizer classroomAuthorizer;
     private final AcademyAuthorizer academyAuthorizer;
@@ -42,6 +45,7 @@ public class ClassroomService {
         TeacherRepository teacherRepository,
         StudentRepository studentRepository,
         RepositoryHelper repoHelper,
+        CursorHelper cursorHelper,
         ServiceErrorHelper errorHelper,
         ClassroomAuthorizer classroomAuthorizer,
         AcademyAuthorizer academyAuthorizer) {
@@ -50,6 +54,7 @@ public class ClassroomService {
         this.teacherRepository = teacherRepository;
         this.studentRepository = studentRepository;
         this.repoHelper = repoHelper;
+        this.cursorHelper = cursorHelper;
         this.errorHelper = errorHelper;
         this.classroomAuthorizer = classroomAuthorizer;
         this.academyAuthorizer = academyAuthorizer;
@@ -79,8 +84,14 @@ public class ClassroomService {
 
     @Transactional(readOnly = true)
     public List<ClassroomDto.Result> search(Specification<Classroom> spec, Pageable pageable) {
-        Page<Classroom> entities = classroomRepository.findAll(spec, pageable);
-        return dtoMapper.asResultDto(entities);
+        return classroomRepository.findAll(spec, pageable, dtoMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ClassroomDto.Result> search(Specification<Classroom> spec, String cursor,
+        int size) {
+        return cursorHelper.searchById(classroomRepository, spec, cursor, size, dtoMapper,
+            ClassroomDto.Result::getId);
     }
 
     @Transactional
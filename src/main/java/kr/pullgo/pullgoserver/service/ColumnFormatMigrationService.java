@@ -0,0 +1,75 @@
+package kr.pullgo.pullgoserver.service;
+
+import java.util.List;
+import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
+import kr.pullgo.pullgoserver.persistence.model.Question;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerRepository;
+import kr.pullgo.pullgoserver.persistence.repository.QuestionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answer, MultipleChoice 컬럼을 현재 persistence.column-format 으로 다시 쓴다.
+ * 컨버터는 두 형식을 모두 읽을 수 있으므로 서비스 중에 실행해도 된다.
+ */
+@Slf4j
+@Service
+public class ColumnFormatMigrationService {
+
+    private static final int CHUNK_SIZE = 100;
+    private static final Pageable CHUNK = PageRequest.of(0, CHUNK_SIZE, Sort.by("id"));
+
+    private final QuestionRepository questionRepository;
+    private final AttenderAnswerRepository attenderAnswerRepository;
+    private final boolean migrateOnStartup;
+
+    @Autowired
+    public ColumnFormatMigrationService(
+        QuestionRepository questionRepository,
+        AttenderAnswerRepository attenderAnswerRepository,
+        @Value("${persistence.migrate-on-startup:false}") boolean migrateOnStartup) {
+        this.questionRepository = questionRepository;
+        this.attenderAnswerRepository = attenderAnswerRepository;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (migrateOnStartup) {
+            migrate();
+        }
+    }
+
+    public void migrate() {
+        int questionCount = 0;
+        List<Question> questions = questionRepository.findByIdGreaterThan(0L, CHUNK);
+        while (!questions.isEmpty()) {
+            for (Question question : questions) {
+                questionCount += questionRepository.rewriteColumns(question.getId(),
+                    question.getAnswer(), question.getMultipleChoice());
+            }
+            questions = questionRepository.findByIdGreaterThan(
+                questions.get(questions.size() - 1).getId(), CHUNK);
+        }
+
+        int answerCount = 0;
+        List<AttenderAnswer> answers = attenderAnswerRepository.findByIdGreaterThan(0L, CHUNK);
+        while (!answers.isEmpty()) {
+            for (AttenderAnswer answer : answers) {
+                answerCount += attenderAnswerRepository.rewriteColumns(answer.getId(),
+                    answer.getAnswer());
+            }
+            answers = attenderAnswerRepository.findByIdGreaterThan(
+                answers.get(answers.size() - 1).getId(), CHUNK);
+        }
+        log.info("rewrote " + questionCount + " questions, " + answerCount
+            + " attender answers in current column format\n");
+    }
+}
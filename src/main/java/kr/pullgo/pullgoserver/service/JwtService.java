@@ -1,6 +1,7 @@
 package kr.pullgo.pullgoserver.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
@@ -63,14 +64,21 @@ public class JwtService {
             .compact();
     }
 
-    @SneakyThrows
     public UserPrincipal extractSubject(String jwt)
         throws ExpiredJwtException, UnsupportedJwtException,
         MalformedJwtException, SignatureException {
-        String subject = jwtParser.parseClaimsJws(jwt)
-            .getBody()
-            .getSubject();
-        return objectMapper.readValue(subject, UserPrincipal.class);
+        return extractSubject(extractClaims(jwt));
+    }
+
+    public Claims extractClaims(String jwt)
+        throws ExpiredJwtException, UnsupportedJwtException,
+        MalformedJwtException, SignatureException {
+        return jwtParser.parseClaimsJws(jwt).getBody();
+    }
+
+    @SneakyThrows
+    public UserPrincipal extractSubject(Claims claims) {
+        return objectMapper.readValue(claims.getSubject(), UserPrincipal.class);
     }
 
 }
@@ -1,5 +1,6 @@
 package kr.pullgo.pullgoserver.service;
 
+import java.time.LocalDate;
 import java.util.List;
 import kr.pullgo.pullgoserver.dto.LessonDto;
 import kr.pullgo.pullgoserver.dto.ScheduleDto;
@@ -9,10 +10,14 @@ import kr.pullgo.pullgoserver.persistence.model.Lesson;
 import kr.pullgo.pullgoserver.persistence.model.Schedule;
 import kr.pullgo.pullgoserver.persistence.repository.LessonRepository;
 import kr.pullgo.pullgoserver.service.authorizer.LessonAuthorizer;
+import kr.pullgo.pullgoserver.service.helper.CursorHelper;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
+import kr.pullgo.pullgoserver.service.spec.LessonSpecs;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -21,19 +26,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class LessonService {
 
+    private static final Sort BY_SCHEDULE = Sort.by("schedule.date", "id");
+
     private final LessonDtoMapper dtoMapper;
     private final LessonRepository lessonRepository;
     private final RepositoryHelper repoHelper;
+    private final CursorHelper cursorHelper;
     private final LessonAuthorizer lessonAuthorizer;
 
     @Autowired
     public LessonService(LessonDtoMapper dtoMapper,
         LessonRepository lessonRepository,
         RepositoryHelper repoHelper,
+        CursorHelper cursorHelper,
         LessonAuthorizer lessonAuthorizer) {
         this.dtoMapper = dtoMapper;
         this.lessonRepository = lessonRepository;
         this.repoHelper = repoHelper;
+        this.cursorHelper = cursorHelper;
         this.lessonAuthorizer = lessonAuthorizer;
     }
 
@@ -57,8 +67,19 @@ public class LessonService {
 
     @Transactional(readOnly = true)
     public List<LessonDto.Result> search(Specification<Lesson> spec, Pageable pageable) {
-        Page<Lesson> entities = lessonRepository.findAll(spec, pageable);
-        return dtoMapper.asResultDto(entities);
+        return lessonRepository.findAll(spec, pageable, dtoMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<LessonDto.Result> search(Specification<Lesson> spec, String cursor,
+        int size) {
+        String[] keys = cursorHelper.decode(cursor, 2);
+        if (keys != null) {
+            LocalDate date = cursorHelper.parseDate(keys[0]);
+            spec = LessonSpecs.afterSchedule(date, cursorHelper.parseLong(keys[1])).and(spec);
+        }
+        return cursorHelper.search(lessonRepository, spec, BY_SCHEDULE, size, dtoMapper,
+            lesson -> cursorHelper.encode(lesson.getSchedule().getDate(), lesson.getId()));
     }
 
     @Transactional
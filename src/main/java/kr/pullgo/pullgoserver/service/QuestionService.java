@@ -1,15 +1,24 @@
 package kr.pullgo.pullgoserver.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import kr.pullgo.pullgoserver.dto.QuestionDto;
 import kr.pullgo.pullgoserver.dto.mapper.QuestionDtoMapper;
 import kr.pullgo.pullgoserver.persistence.model.Answer;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
 import kr.pullgo.pullgoserver.persistence.model.MultipleChoice;
 import kr.pullgo.pullgoserver.persistence.model.Question;
+import kr.pullgo.pullgoserver.persistence.repository.QuestionBatchRepository;
 import kr.pullgo.pullgoserver.persistence.repository.QuestionRepository;
 import kr.pullgo.pullgoserver.service.authorizer.QuestionAuthorizer;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.QuestionSnapshotService;
+import kr.pullgo.pullgoserver.service.helper.CursorHelper;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -24,19 +33,31 @@ public class QuestionService {
 
     private final QuestionDtoMapper dtoMapper;
     private final QuestionRepository questionRepository;
+    private final QuestionBatchRepository questionBatchRepository;
     private final RepositoryHelper repoHelper;
+    private final CursorHelper cursorHelper;
     private final QuestionAuthorizer questionAuthorizer;
+    private final AnswerKeyService answerKeyService;
+    private final QuestionSnapshotService questionSnapshotService;
 
     @Autowired
     public QuestionService(
         QuestionDtoMapper dtoMapper,
         QuestionRepository questionRepository,
+        QuestionBatchRepository questionBatchRepository,
         RepositoryHelper repoHelper,
-        QuestionAuthorizer questionAuthorizer) {
+        CursorHelper cursorHelper,
+        QuestionAuthorizer questionAuthorizer,
+        AnswerKeyService answerKeyService,
+        QuestionSnapshotService questionSnapshotService) {
         this.dtoMapper = dtoMapper;
         this.questionRepository = questionRepository;
+        this.questionBatchRepository = questionBatchRepository;
         this.repoHelper = repoHelper;
+        this.cursorHelper = cursorHelper;
         this.questionAuthorizer = questionAuthorizer;
+        this.answerKeyService = answerKeyService;
+        this.questionSnapshotService = questionSnapshotService;
     }
 
     @Transactional
@@ -47,14 +68,42 @@ public class QuestionService {
         exam.addQuestion(question);
 
         questionAuthorizer.requireExamCreator(authentication, question);
+        answerKeyService.evictAnswerKey(exam.getId());
+        questionSnapshotService.evictSnapshot(exam.getId());
 
         return dtoMapper.asResultDto(questionRepository.save(question));
     }
 
+    /**
+     * 시험마다 한 번만 찾고 권한을 확인한 뒤, 같은 시험의 연속된 문제들을 JDBC batch 로 넣는다.
+     */
     @Transactional
-    public void create(List<QuestionDto.Create> dtos, Authentication authentication) {
-        for (var dto: dtos){
-            create(dto, authentication);
+    public void create(Iterator<QuestionDto.Create> dtos, Authentication authentication) {
+        Set<Long> authorizedExamIds = new HashSet<>();
+        List<Question> pending = new ArrayList<>(questionBatchRepository.getBatchSize());
+        Long pendingExamId = null;
+        while (dtos.hasNext()) {
+            QuestionDto.Create dto = dtos.next();
+            if (authorizedExamIds.add(dto.getExamId())) {
+                Exam exam = repoHelper.findExamOrThrow(dto.getExamId());
+                questionAuthorizer.requireExamCreator(authentication, exam);
+                answerKeyService.evictAnswerKey(exam.getId());
+                questionSnapshotService.evictSnapshot(exam.getId());
+            }
+            if (!dto.getExamId().equals(pendingExamId)
+                || pending.size() >= questionBatchRepository.getBatchSize()) {
+                insertPending(pendingExamId, pending);
+                pendingExamId = dto.getExamId();
+            }
+            pending.add(dtoMapper.asEntity(dto));
+        }
+        insertPending(pendingExamId, pending);
+    }
+
+    private void insertPending(Long examId, List<Question> pending) {
+        if (!pending.isEmpty()) {
+            questionBatchRepository.insertAll(examId, pending);
+            pending.clear();
         }
     }
 
@@ -66,8 +115,14 @@ public class QuestionService {
 
     @Transactional(readOnly = true)
     public List<QuestionDto.Result> search(Specification<Question> spec, Pageable pageable) {
-        Page<Question> entities = questionRepository.findAll(spec, pageable);
-        return dtoMapper.asResultDto(entities);
+        return questionRepository.findAll(spec, pageable, dtoMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionDto.Result> search(Specification<Question> spec, String cursor,
+        int size) {
+        return cursorHelper.searchById(questionRepository, spec, cursor, size, dtoMapper,
+            QuestionDto.Result::getId);
     }
 
     @Transactional
@@ -84,10 +139,12 @@ public class QuestionService {
         }
         if (dto.getAnswer() != null) {
             entity.setAnswer(new Answer(dto.getAnswer()));
+            answerKeyService.evictAnswerKey(entity.getExam().getId());
         }
         if (dto.getChoice() != null) {
             entity.setMultipleChoice(new MultipleChoice(dto.getChoice()));
         }
+        questionSnapshotService.evictSnapshot(entity.getExam().getId());
         return dtoMapper.asResultDto(questionRepository.save(entity));
     }
 
@@ -103,6 +160,8 @@ public class QuestionService {
     public void delete(Long id, Authentication authentication) {
         Question entity = repoHelper.findQuestionOrThrow(id);
         questionAuthorizer.requireExamCreator(authentication, entity);
+        answerKeyService.evictAnswerKey(entity.getExam().getId());
+        questionSnapshotService.evictSnapshot(entity.getExam().getId());
         questionRepository.delete(entity);
     }
 }
@@ -15,6 +15,8 @@ import kr.pullgo.pullgoserver.persistence.repository.AcademyRepository;
 import kr.pullgo.pullgoserver.persistence.repository.ClassroomRepository;
 import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
 import kr.pullgo.pullgoserver.service.authorizer.StudentAuthorizer;
+import kr.pullgo.pullgoserver.service.helper.CursorHelper;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +36,7 @@ public class StudentService {
     private final AcademyRepository academyRepository;
     private final ClassroomRepository classroomRepository;
     private final RepositoryHelper repoHelper;
+    private final CursorHelper cursorHelper;
     private final ServiceErrorHelper errorHelper;
     private final StudentAuthorizer studentAuthorizer;
 
@@ -44,6 +47,7 @@ public class StudentService {
         AcademyRepository academyRepository,
         ClassroomRepository classroomRepository,
         RepositoryHelper repoHelper,
+        CursorHelper cursorHelper,
         ServiceErrorHelper errorHelper,
         StudentAuthorizer studentAuthorizer) {
         this.dtoMapper = dtoMapper;
@@ -52,6 +56,7 @@ public class StudentService {
         this.academyRepository = academyRepository;
         this.classroomRepository = classroomRepository;
         this.repoHelper = repoHelper;
+        this.cursorHelper = cursorHelper;
         this.errorHelper = errorHelper;
         this.studentAuthorizer = studentAuthorizer;
     }
@@ -72,8 +77,14 @@ public class StudentService {
 
     @Transactional(readOnly = true)
     public List<StudentDto.Result> search(Specification<Student> spec, Pageable pageable) {
-        Page<Student> entities = studentRepository.findAll(spec, pageable);
-        return dtoMapper.asResultDto(entities);
+        return studentRepository.findAll(spec, pageable, dtoMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<StudentDto.Result> search(Specification<Student> spec, String cursor,
+        int size) {
+        return cursorHelper.searchById(studentRepository, spec, cursor, size, dtoMapper,
+            StudentDto.Result::getId);
     }
 
     @Transactional
@@ -116,6 +127,7 @@ public class StudentService {
             classroomRepository.save(classroom);
         }
 
+        accountService.invalidateAuthentication(student.getAccount());
         studentRepository.delete(student);
     }
 
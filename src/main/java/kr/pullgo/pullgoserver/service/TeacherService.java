@@ -15,6 +15,8 @@ import kr.pullgo.pullgoserver.persistence.repository.AcademyRepository;
 import kr.pullgo.pullgoserver.persistence.repository.ClassroomRepository;
 import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
 import kr.pullgo.pullgoserver.service.authorizer.TeacherAuthorizer;
+import kr.pullgo.pullgoserver.service.helper.CursorHelper;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +36,7 @@ public class TeacherService {
     private final AcademyRepository academyRepository;
     private final ClassroomRepository classroomRepository;
     private final RepositoryHelper repoHelper;
+    private final CursorHelper cursorHelper;
     private final ServiceErrorHelper errorHelper;
     private final TeacherAuthorizer teacherAuthorizer;
 
@@ -44,6 +47,7 @@ public class TeacherService {
         AcademyRepository academyRepository,
         ClassroomRepository classroomRepository,
         RepositoryHelper repoHelper,
+        CursorHelper cursorHelper,
         ServiceErrorHelper errorHelper,
         TeacherAuthorizer teacherAuthorizer) {
         this.dtoMapper = dtoMapper;
@@ -52,6 +56,7 @@ public class TeacherService {
         this.academyRepository = academyRepository;
         this.classroomRepository = classroomRepository;
         this.repoHelper = repoHelper;
+        this.cursorHelper = cursorHelper;
         this.errorHelper = errorHelper;
         this.teacherAuthorizer = teacherAuthorizer;
     }
@@ -72,8 +77,14 @@ public class TeacherService {
 
     @Transactional(readOnly = true)
     public List<TeacherDto.Result> search(Specification<Teacher> spec, Pageable pageable) {
-        Page<Teacher> entities = teacherRepository.findAll(spec, pageable);
-        return dtoMapper.asResultDto(entities);
+        return teacherRepository.findAll(spec, pageable, dtoMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TeacherDto.Result> search(Specification<Teacher> spec, String cursor,
+        int size) {
+        return cursorHelper.searchById(teacherRepository, spec, cursor, size, dtoMapper,
+            TeacherDto.Result::getId);
     }
 
     @Transactional
@@ -106,6 +117,7 @@ public class TeacherService {
             classroomRepository.save(classroom);
         }
 
+        accountService.invalidateAuthentication(teacher.getAccount());
         teacherRepository.delete(teacher);
     }
 
@@ -1,38 +1,30 @@
 package kr.pullgo.pullgoserver.service.authorizer;
 
-import kr.pullgo.pullgoserver.persistence.model.Account;
+import kr.pullgo.pullgoserver.config.security.ResolvedIdentity;
 import kr.pullgo.pullgoserver.persistence.model.Student;
 import kr.pullgo.pullgoserver.persistence.model.Teacher;
-import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
-import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.security.core.Authentication;
 
 public class AbstractAuthorizer {
 
     private final AuthenticationInspector authInspector;
-    private final StudentRepository studentRepository;
-    private final TeacherRepository teacherRepository;
     private final ServiceErrorHelper errorHelper;
 
     public AbstractAuthorizer(
         AuthenticationInspector authInspector,
-        StudentRepository studentRepository,
-        TeacherRepository teacherRepository,
         ServiceErrorHelper errorHelper) {
         this.authInspector = authInspector;
-        this.studentRepository = studentRepository;
-        this.teacherRepository = teacherRepository;
         this.errorHelper = errorHelper;
     }
 
     public void requireByOneself(Authentication authentication, Student requester) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        Student student = getStudentOrThrow(account);
-        if (student != requester) {
+        Long studentId = getStudentIdOrThrow(identity);
+        if (!isSame(studentId, requester)) {
             throw errorHelper.forbidden("Not requested oneself");
         }
     }
@@ -40,38 +32,34 @@ public class AbstractAuthorizer {
     public void requireByOneself(Authentication authentication, Teacher requester) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        Teacher teacher = getTeacherOrThrow(account);
-        if (teacher != requester) {
+        Long teacherId = getTeacherIdOrThrow(identity);
+        if (!isSame(teacherId, requester)) {
             throw errorHelper.forbidden("Not requested oneself");
         }
     }
 
-    protected Student getStudentOrThrow(Account account) {
-        Student student = studentRepository.findByAccountId(account.getId());
-        if (student == null) {
+    protected Long getStudentIdOrThrow(ResolvedIdentity identity) {
+        if (!identity.isStudent()) {
             throw errorHelper.forbidden("Not a student");
         }
-        return student;
+        return identity.getStudentId();
     }
 
-    protected boolean isStudent(Account account) {
-        Student student = studentRepository.findByAccountId(account.getId());
-        return student != null;
-    }
-
-    protected Teacher getTeacherOrThrow(Account account) {
-        Teacher teacher = teacherRepository.findByAccountId(account.getId());
-        if (teacher == null) {
+    protected Long getTeacherIdOrThrow(ResolvedIdentity identity) {
+        if (!identity.isTeacher()) {
             throw errorHelper.forbidden("Not a teacher");
         }
-        return teacher;
+        return identity.getTeacherId();
+    }
+
+    protected boolean isSame(Long studentId, Student student) {
+        return student != null && studentId.equals(student.getId());
     }
 
-    protected boolean isTeacher(Account account) {
-        Teacher teacher = teacherRepository.findByAccountId(account.getId());
-        return teacher != null;
+    protected boolean isSame(Long teacherId, Teacher teacher) {
+        return teacher != null && teacherId.equals(teacher.getId());
     }
 
 }
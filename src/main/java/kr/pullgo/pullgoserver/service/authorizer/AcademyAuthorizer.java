@@ -1,10 +1,8 @@
 package kr.pullgo.pullgoserver.service.authorizer;
 
+import kr.pullgo.pullgoserver.config.security.ResolvedIdentity;
 import kr.pullgo.pullgoserver.persistence.model.Academy;
-import kr.pullgo.pullgoserver.persistence.model.Account;
-import kr.pullgo.pullgoserver.persistence.model.Teacher;
-import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
-import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
+import kr.pullgo.pullgoserver.persistence.repository.AcademyRepository;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -15,25 +13,26 @@ public class AcademyAuthorizer extends AbstractAuthorizer {
 
     private final AuthenticationInspector authInspector;
     private final ServiceErrorHelper errorHelper;
+    private final AcademyRepository academyRepository;
 
     @Autowired
     public AcademyAuthorizer(
         AuthenticationInspector authInspector,
-        StudentRepository studentRepository,
-        TeacherRepository teacherRepository,
+        AcademyRepository academyRepository,
         ServiceErrorHelper errorHelper) {
-        super(authInspector, studentRepository, teacherRepository, errorHelper);
+        super(authInspector, errorHelper);
         this.authInspector = authInspector;
         this.errorHelper = errorHelper;
+        this.academyRepository = academyRepository;
     }
 
     public void requireOwner(Authentication authentication, Academy academy) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        Teacher teacher = getTeacherOrThrow(account);
-        if (teacher != academy.getOwner()) {
+        Long teacherId = getTeacherIdOrThrow(identity);
+        if (!isSame(teacherId, academy.getOwner())) {
             throw errorHelper.forbidden("Not the owner");
         }
     }
@@ -41,10 +40,10 @@ public class AcademyAuthorizer extends AbstractAuthorizer {
     public void requireMemberTeacher(Authentication authentication, Academy academy) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        Teacher teacher = getTeacherOrThrow(account);
-        if (!academy.getTeachers().contains(teacher)) {
+        Long teacherId = getTeacherIdOrThrow(identity);
+        if (!academyRepository.existsByIdAndTeachersId(academy.getId(), teacherId)) {
             throw errorHelper.forbidden("Not a member teacher");
         }
     }
@@ -1,10 +1,7 @@
 package kr.pullgo.pullgoserver.service.authorizer;
 
-import kr.pullgo.pullgoserver.persistence.model.Account;
+import kr.pullgo.pullgoserver.config.security.ResolvedIdentity;
 import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
-import kr.pullgo.pullgoserver.persistence.model.Student;
-import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
-import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -19,10 +16,8 @@ public class AttenderAnswerAuthorizer extends AbstractAuthorizer {
     @Autowired
     public AttenderAnswerAuthorizer(
         AuthenticationInspector authInspector,
-        StudentRepository studentRepository,
-        TeacherRepository teacherRepository,
         ServiceErrorHelper errorHelper) {
-        super(authInspector, studentRepository, teacherRepository, errorHelper);
+        super(authInspector, errorHelper);
         this.authInspector = authInspector;
         this.errorHelper = errorHelper;
     }
@@ -31,10 +26,10 @@ public class AttenderAnswerAuthorizer extends AbstractAuthorizer {
         AttenderAnswer attenderAnswer) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        Student student = getStudentOrThrow(account);
-        if (student != attenderAnswer.getAttenderState().getAttender()) {
+        Long studentId = getStudentIdOrThrow(identity);
+        if (!isSame(studentId, attenderAnswer.getAttenderState().getAttender())) {
             throw errorHelper.forbidden("Not the owning attender");
         }
     }
@@ -1,8 +1,12 @@
 package kr.pullgo.pullgoserver.service.authorizer;
 
+import kr.pullgo.pullgoserver.config.security.ResolvedIdentity;
 import kr.pullgo.pullgoserver.config.security.UserPrincipal;
+import kr.pullgo.pullgoserver.config.security.UserPrincipalAuthenticationToken;
 import kr.pullgo.pullgoserver.persistence.model.Account;
 import kr.pullgo.pullgoserver.persistence.repository.AccountRepository;
+import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
+import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -12,25 +16,35 @@ import org.springframework.stereotype.Component;
 public class AuthenticationInspector {
 
     private final AccountRepository accountRepository;
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
     private final ServiceErrorHelper errorHelper;
 
     @Autowired
     public AuthenticationInspector(
         AccountRepository accountRepository,
+        StudentRepository studentRepository,
+        TeacherRepository teacherRepository,
         ServiceErrorHelper errorHelper) {
         this.accountRepository = accountRepository;
+        this.studentRepository = studentRepository;
+        this.teacherRepository = teacherRepository;
         this.errorHelper = errorHelper;
     }
 
-    public Account getAccountOrThrow(Authentication authentication) {
+    public ResolvedIdentity getIdentityOrThrow(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw errorHelper.unauthorized("Not authenticated");
         }
+        if (!(authentication instanceof UserPrincipalAuthenticationToken)) {
+            return resolve((UserPrincipal) authentication.getPrincipal());
+        }
 
-        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
-
-        return accountRepository.findById(principal.getAccountId())
-            .orElseThrow(() -> errorHelper.forbidden("Removed account"));
+        UserPrincipalAuthenticationToken token = (UserPrincipalAuthenticationToken) authentication;
+        if (token.getIdentity() == null) {
+            token.setIdentity(resolve((UserPrincipal) token.getPrincipal()));
+        }
+        return token.getIdentity();
     }
 
     public boolean isAdmin(Authentication authentication) {
@@ -41,4 +55,13 @@ public class AuthenticationInspector {
             .anyMatch(authority -> authority.getAuthority().equals("ADMIN"));
     }
 
+    private ResolvedIdentity resolve(UserPrincipal principal) {
+        Account account = accountRepository.findById(principal.getAccountId())
+            .orElseThrow(() -> errorHelper.forbidden("Removed account"));
+
+        return new ResolvedIdentity(account.getId(), account.getRole(),
+            studentRepository.findIdByAccountId(account.getId()),
+            teacherRepository.findIdByAccountId(account.getId()));
+    }
+
 }
@@ -1,10 +1,7 @@
 package kr.pullgo.pullgoserver.service.authorizer;
 
-import kr.pullgo.pullgoserver.persistence.model.Account;
+import kr.pullgo.pullgoserver.config.security.ResolvedIdentity;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
-import kr.pullgo.pullgoserver.persistence.model.Teacher;
-import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
-import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -19,10 +16,8 @@ public class ExamAuthorizer extends AbstractAuthorizer {
     @Autowired
     public ExamAuthorizer(
         AuthenticationInspector authInspector,
-        StudentRepository studentRepository,
-        TeacherRepository teacherRepository,
         ServiceErrorHelper errorHelper) {
-        super(authInspector, studentRepository, teacherRepository, errorHelper);
+        super(authInspector, errorHelper);
         this.authInspector = authInspector;
         this.errorHelper = errorHelper;
     }
@@ -30,10 +25,10 @@ public class ExamAuthorizer extends AbstractAuthorizer {
     public void requireCreator(Authentication authentication, Exam exam) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        Teacher teacher = getTeacherOrThrow(account);
-        if (teacher != exam.getCreator()) {
+        Long teacherId = getTeacherIdOrThrow(identity);
+        if (!isSame(teacherId, exam.getCreator())) {
             throw errorHelper.forbidden("Not the creator");
         }
     }
@@ -1,10 +1,8 @@
 package kr.pullgo.pullgoserver.service.authorizer;
 
-import kr.pullgo.pullgoserver.persistence.model.Account;
+import kr.pullgo.pullgoserver.config.security.ResolvedIdentity;
 import kr.pullgo.pullgoserver.persistence.model.Lesson;
-import kr.pullgo.pullgoserver.persistence.model.Teacher;
-import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
-import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ClassroomRepository;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -15,25 +13,26 @@ public class LessonAuthorizer extends AbstractAuthorizer {
 
     private final AuthenticationInspector authInspector;
     private final ServiceErrorHelper errorHelper;
+    private final ClassroomRepository classroomRepository;
 
     @Autowired
     public LessonAuthorizer(
         AuthenticationInspector authInspector,
-        StudentRepository studentRepository,
-        TeacherRepository teacherRepository,
+        ClassroomRepository classroomRepository,
         ServiceErrorHelper errorHelper) {
-        super(authInspector, studentRepository, teacherRepository, errorHelper);
+        super(authInspector, errorHelper);
         this.authInspector = authInspector;
         this.errorHelper = errorHelper;
+        this.classroomRepository = classroomRepository;
     }
 
     public void requireClassroomTeacher(Authentication authentication, Lesson lesson) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        Teacher teacher = getTeacherOrThrow(account);
-        if (!lesson.getClassroom().getTeachers().contains(teacher)) {
+        Long teacherId = getTeacherIdOrThrow(identity);
+        if (!classroomRepository.existsByIdAndTeachersId(lesson.getClassroom().getId(), teacherId)) {
             throw errorHelper.forbidden("Not a member teacher of the classroom");
         }
     }
@@ -1,12 +1,11 @@
 package kr.pullgo.pullgoserver.service.authorizer;
 
+import kr.pullgo.pullgoserver.config.security.ResolvedIdentity;
 import kr.pullgo.pullgoserver.persistence.model.Academy;
-import kr.pullgo.pullgoserver.persistence.model.Account;
 import kr.pullgo.pullgoserver.persistence.model.Classroom;
 import kr.pullgo.pullgoserver.persistence.model.Student;
-import kr.pullgo.pullgoserver.persistence.model.Teacher;
-import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
-import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
+import kr.pullgo.pullgoserver.persistence.repository.AcademyRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ClassroomRepository;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -17,29 +16,33 @@ public class StudentAuthorizer extends AbstractAuthorizer {
 
     private final AuthenticationInspector authInspector;
     private final ServiceErrorHelper errorHelper;
+    private final AcademyRepository academyRepository;
+    private final ClassroomRepository classroomRepository;
 
     @Autowired
     public StudentAuthorizer(
         AuthenticationInspector authInspector,
-        StudentRepository studentRepository,
-        TeacherRepository teacherRepository,
+        AcademyRepository academyRepository,
+        ClassroomRepository classroomRepository,
         ServiceErrorHelper errorHelper) {
-        super(authInspector, studentRepository, teacherRepository, errorHelper);
+        super(authInspector, errorHelper);
         this.authInspector = authInspector;
         this.errorHelper = errorHelper;
+        this.academyRepository = academyRepository;
+        this.classroomRepository = classroomRepository;
     }
 
     public void requireByOneselfOrMemberTeacher(Authentication authentication, Student student,
         Academy academy) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        if (isStudent(account)) {
+        if (identity.isStudent()) {
             requireByOneself(authentication, student);
         } else {
-            Teacher teacher = getTeacherOrThrow(account);
-            if (!academy.getTeachers().contains(teacher)) {
+            Long teacherId = getTeacherIdOrThrow(identity);
+            if (!academyRepository.existsByIdAndTeachersId(academy.getId(), teacherId)) {
                 throw errorHelper.forbidden("Not a member teacher");
             }
         }
@@ -49,13 +52,13 @@ public class StudentAuthorizer extends AbstractAuthorizer {
         Classroom classroom) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        if (isStudent(account)) {
+        if (identity.isStudent()) {
             requireByOneself(authentication, student);
         } else {
-            Teacher teacher = getTeacherOrThrow(account);
-            if (!classroom.getTeachers().contains(teacher)) {
+            Long teacherId = getTeacherIdOrThrow(identity);
+            if (!classroomRepository.existsByIdAndTeachersId(classroom.getId(), teacherId)) {
                 throw errorHelper.forbidden("Not a member teacher");
             }
         }
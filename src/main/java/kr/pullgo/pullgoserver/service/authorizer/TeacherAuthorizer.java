@@ -1,11 +1,11 @@
 package kr.pullgo.pullgoserver.service.authorizer;
 
+import kr.pullgo.pullgoserver.config.security.ResolvedIdentity;
 import kr.pullgo.pullgoserver.persistence.model.Academy;
-import kr.pullgo.pullgoserver.persistence.model.Account;
 import kr.pullgo.pullgoserver.persistence.model.Classroom;
 import kr.pullgo.pullgoserver.persistence.model.Teacher;
-import kr.pullgo.pullgoserver.persistence.repository.StudentRepository;
-import kr.pullgo.pullgoserver.persistence.repository.TeacherRepository;
+import kr.pullgo.pullgoserver.persistence.repository.AcademyRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ClassroomRepository;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -16,26 +16,31 @@ public class TeacherAuthorizer extends AbstractAuthorizer {
 
     private final AuthenticationInspector authInspector;
     private final ServiceErrorHelper errorHelper;
+    private final AcademyRepository academyRepository;
+    private final ClassroomRepository classroomRepository;
 
     @Autowired
     public TeacherAuthorizer(
         AuthenticationInspector authInspector,
-        StudentRepository studentRepository,
-        TeacherRepository teacherRepository,
+        AcademyRepository academyRepository,
+        ClassroomRepository classroomRepository,
         ServiceErrorHelper errorHelper) {
-        super(authInspector, studentRepository, teacherRepository, errorHelper);
+        super(authInspector, errorHelper);
         this.authInspector = authInspector;
         this.errorHelper = errorHelper;
+        this.academyRepository = academyRepository;
+        this.classroomRepository = classroomRepository;
     }
 
     public void requireByOneselfOrMemberTeacher(Authentication authentication, Teacher teacher,
         Academy academy) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        Teacher requester = getTeacherOrThrow(account);
-        if (requester != teacher && !academy.getTeachers().contains(requester)) {
+        Long requesterId = getTeacherIdOrThrow(identity);
+        if (!isSame(requesterId, teacher)
+            && !academyRepository.existsByIdAndTeachersId(academy.getId(), requesterId)) {
             throw errorHelper.forbidden("Not a member teacher or requested oneself");
         }
     }
@@ -44,10 +49,11 @@ public class TeacherAuthorizer extends AbstractAuthorizer {
         Classroom classroom) {
         if (authInspector.isAdmin(authentication))
             return;
-        Account account = authInspector.getAccountOrThrow(authentication);
+        ResolvedIdentity identity = authInspector.getIdentityOrThrow(authentication);
 
-        Teacher requester = getTeacherOrThrow(account);
-        if (requester != teacher && !classroom.getTeachers().contains(requester)) {
+        Long requesterId = getTeacherIdOrThrow(identity);
+        if (!isSame(requesterId, teacher)
+            && !classroomRepository.existsByIdAndTeachersId(classroom.getId(), requesterId)) {
             throw errorHelper.forbidden("Not a member teacher or requested oneself");
         }
     }
@@ -4,10 +4,8 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Component;
 
@@ -16,20 +14,23 @@ import org.springframework.stereotype.Component;
 @Component
 public class CronJob {
 
-    private final TaskScheduler scheduler;
-    private final Map<Long, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    private final TimingWheel timingWheel;
+    private final Map<Long, TimingWheel.Timeout> scheduledTasks = new ConcurrentHashMap<>();
 
 
     @Autowired
     public CronJob(
-        TaskScheduler scheduler) {
-        this.scheduler = scheduler;
+        TimingWheel timingWheel) {
+        this.timingWheel = timingWheel;
     }
 
     public void register(Long id, Runnable runnable, LocalDateTime endTime, String msg) {
-        ScheduledFuture<?> task = scheduler.schedule(getRunnable(id, runnable, msg),
-            Timestamp.valueOf(endTime));
-        scheduledTasks.put(id, task);
+        TimingWheel.Timeout task = timingWheel.schedule(getRunnable(id, runnable, msg),
+            Timestamp.valueOf(endTime).toInstant());
+        TimingWheel.Timeout replaced = scheduledTasks.put(id, task);
+        if (replaced != null) {
+            replaced.cancel();
+        }
         log.info("regiser " + msg + " timer, id: [" + id + "], until :" + endTime + '\n');
         log.info("present time : " + LocalDateTime.now() + '\n');
     }
@@ -46,7 +47,10 @@ public class CronJob {
 
 
     public void remove(Long id, String msg) {
-        scheduledTasks.get(id).cancel(true);
+        TimingWheel.Timeout task = scheduledTasks.remove(id);
+        if (task != null) {
+            task.cancel();
+        }
         log.info("remove " + msg + " timer, id: [" + id + "]" + '\n');
     }
 }
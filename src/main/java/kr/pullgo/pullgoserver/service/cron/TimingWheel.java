@@ -0,0 +1,130 @@
+package kr.pullgo.pullgoserver.service.cron;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Hashed timing wheel. 등록/취소는 O(1)이고, 같은 tick 에 만료되는 작업은 한 번에 묶어서 실행한다.
+ */
+@Slf4j
+public class TimingWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Set<Timeout>> wheel;
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService worker;
+
+    // guarded by this
+    private long lastTick;
+
+    public TimingWheel(Duration tickDuration, int wheelSize, int workerThreads,
+        String threadNamePrefix) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickDuration.toMillis();
+        this.mask = wheelSize - 1;
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+        this.lastTick = floorTick(System.currentTimeMillis());
+
+        CustomizableThreadFactory tickerFactory = new CustomizableThreadFactory(
+            threadNamePrefix + "wheel-");
+        tickerFactory.setDaemon(true);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(tickerFactory);
+        this.worker = Executors.newFixedThreadPool(workerThreads,
+            new CustomizableThreadFactory(threadNamePrefix));
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized Timeout schedule(Runnable task, Instant deadline) {
+        long tick = Math.max(ceilTick(deadline.toEpochMilli()), lastTick + 1);
+        Timeout timeout = new Timeout(task, tick, wheel.get((int) (tick & mask)));
+        timeout.bucket.add(timeout);
+        return timeout;
+    }
+
+    public void shutdown() {
+        ticker.shutdownNow();
+        worker.shutdownNow();
+    }
+
+    void advance() {
+        long now = floorTick(System.currentTimeMillis());
+        List<Timeout> expired = new ArrayList<>();
+        synchronized (this) {
+            // 밀린 tick 이 한 바퀴를 넘으면 모든 bucket 을 한 번씩만 훑는다
+            long until = Math.min(now, lastTick + wheel.size());
+            for (long tick = lastTick + 1; tick <= until; tick++) {
+                Iterator<Timeout> it = wheel.get((int) (tick & mask)).iterator();
+                while (it.hasNext()) {
+                    Timeout timeout = it.next();
+                    if (timeout.tick <= now) {
+                        it.remove();
+                        expired.add(timeout);
+                    }
+                }
+            }
+            lastTick = Math.max(lastTick, now);
+        }
+        if (!expired.isEmpty()) {
+            worker.execute(() -> expired.forEach(Timeout::run));
+        }
+    }
+
+    private long floorTick(long epochMillis) {
+        return Math.floorDiv(epochMillis, tickMillis);
+    }
+
+    private long ceilTick(long epochMillis) {
+        return -Math.floorDiv(-epochMillis, tickMillis);
+    }
+
+    public static final class Timeout {
+
+        private final Runnable task;
+        private final long tick;
+        private final Set<Timeout> bucket;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long tick, Set<Timeout> bucket) {
+            this.task = task;
+            this.tick = tick;
+            this.bucket = bucket;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            bucket.remove(this);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void run() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("timing wheel task failed", e);
+            }
+        }
+    }
+}
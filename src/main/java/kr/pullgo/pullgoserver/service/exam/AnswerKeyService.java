@@ -0,0 +1,79 @@
+package kr.pullgo.pullgoserver.service.exam;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.pullgo.pullgoserver.persistence.model.AnswerKey;
+import kr.pullgo.pullgoserver.persistence.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class AnswerKeyService {
+
+    private final QuestionRepository questionRepository;
+    private final int maxSize;
+    private final Map<Long, CachedAnswerKey> answerKeys = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AnswerKeyService(QuestionRepository questionRepository,
+        @Value("${exam.answer-key.max-size}") int maxSize) {
+        this.questionRepository = questionRepository;
+        this.maxSize = maxSize;
+    }
+
+    public AnswerKey getAnswerKey(Long examId) {
+        // 다른 노드에서 문제가 바뀌었을 수 있으므로 쓸 때마다 버전을 확인한다. 버전을 먼저 읽고 문제를 읽으므로,
+        // 그 사이에 바뀌어도 더 새 채점표가 예전 버전으로 남을 뿐이고 다음 조회 때 다시 컴파일한다
+        String version = questionRepository.findVersionByExamId(examId);
+        CachedAnswerKey cached = answerKeys.get(examId);
+        if (cached != null && cached.version.equals(version)) {
+            cached.lastUsed = System.nanoTime();
+            return cached.answerKey;
+        }
+        if (cached == null && answerKeys.size() >= maxSize) {
+            evictLeastRecentlyUsed();
+        }
+        CachedAnswerKey compiled = new CachedAnswerKey(
+            AnswerKey.compile(questionRepository.findByExamId(examId)), version);
+        answerKeys.put(examId, compiled);
+        return compiled.answerKey;
+    }
+
+    public void evictAnswerKey(Long examId) {
+        answerKeys.remove(examId);
+        // 트랜잭션이 끝나기 전에 다른 트랜잭션이 이전 정답으로, 또는 이 트랜잭션이 롤백될 정답으로 다시 컴파일했을 수 있다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        answerKeys.remove(examId);
+                    }
+                });
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        answerKeys.entrySet().stream()
+            .min(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+            .ifPresent(entry -> answerKeys.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private static class CachedAnswerKey {
+
+        private final AnswerKey answerKey;
+        private final String version;
+        // 통계나 내보내기로 한 번 읽힌 끝난 시험의 정답이 진행 중인 시험보다 먼저 밀려나도록 마지막 사용 시각을 남긴다
+        private volatile long lastUsed;
+
+        private CachedAnswerKey(AnswerKey answerKey, String version) {
+            this.answerKey = answerKey;
+            this.version = version;
+            this.lastUsed = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package kr.pullgo.pullgoserver.service.exam;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import kr.pullgo.pullgoserver.persistence.converter.AnswerConverter;
+import kr.pullgo.pullgoserver.persistence.converter.ColumnFormat;
+import kr.pullgo.pullgoserver.persistence.model.Answer;
+import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 응시 중 답안 수정을 응시 상태별로 모아 두었다가 묶어서 쓰는 write-behind 버퍼.
+ * 받은 답안은 먼저 로컬 journal 에 append 하므로 프로세스가 죽어도 재시작할 때 다시 읽어 온다.
+ * 제출과 시험 마감 때는 채점 전에 해당 답안을 먼저 쓴다. 주기적인 flush 는 응시 상태를 잠근 뒤에 쓰므로, 응시 상태를 잠그고
+ * 채점하는 제출, 시험 마감과 겹치지 않는다.
+ * 버퍼는 이 노드의 메모리와 로컬 journal 에만 있으므로 서버를 한 대만 띄울 때만 켠다. 다른 노드가 제출이나 마감을 처리하면
+ * 이 노드에 남은 답안은 채점에서 빠지고, 그 뒤에는 응시가 끝난 답안으로 버려진다.
+ */
+@Slf4j
+@Component
+public class AnswerWriteBuffer {
+
+    private static final String JOURNAL_PREFIX = "answers-";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String WRITE = "W";
+    private static final String FLUSHED = "F";
+
+    private final AttenderAnswerBatchRepository attenderAnswerBatchRepository;
+    private final AttenderStateRepository attenderStateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AnswerConverter answerConverter;
+    private final boolean enabled;
+    private final Path journalDir;
+
+    // guarded by this
+    private final Map<Long, PendingSheet> pending = new HashMap<>();
+    // flushAll 이 쓰고 있지만 아직 commit 되지 않은 답안. commit 될 때까지 조회와 채점에서 보이게 둔다
+    private final Map<Long, PendingSheet> inFlight = new HashMap<>();
+    // flushAll 이 쓰는 중인 답안을 flush 가 가져가서 먼저 쓴 응시 상태. flushAll 은 이 응시 상태에 예전 답안을 쓰지 않는다
+    private final Set<Long> superseded = new HashSet<>();
+    private final List<Path> sealedJournals = new ArrayList<>();
+    private BufferedWriter journal;
+    private long journalSequence;
+    private boolean journalWritten;
+
+    @Autowired
+    public AnswerWriteBuffer(AttenderAnswerBatchRepository attenderAnswerBatchRepository,
+        AttenderStateRepository attenderStateRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${persistence.column-format:json}") ColumnFormat format,
+        @Value("${exam.answer-buffer.enabled:false}") boolean enabled,
+        @Value("${exam.answer-buffer.journal-dir:answer-journal}") String journalDir) {
+        this.attenderAnswerBatchRepository = attenderAnswerBatchRepository;
+        this.attenderStateRepository = attenderStateRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.answerConverter = new AnswerConverter(format);
+        this.enabled = enabled;
+        this.journalDir = Paths.get(journalDir);
+    }
+
+    @PostConstruct
+    public synchronized void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(journalDir);
+        // 지난 실행에서 쓰지 못한 답안을 journal 순서대로 다시 쌓는다. 다음 flush 때 DB 에 쓴다
+        for (Path path : listJournals()) {
+            replay(path);
+            sealedJournals.add(path);
+            journalSequence = Math.max(journalSequence, sequenceOf(path));
+        }
+        openJournal();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        flushAll();
+        synchronized (this) {
+            journal.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized void write(Long examId, Long attenderStateId, Long questionId,
+        Answer answer) {
+        appendWrite(examId, attenderStateId, questionId, answer);
+        pending.computeIfAbsent(attenderStateId, id -> new PendingSheet(examId))
+            .answers.put(questionId, answer);
+    }
+
+    public synchronized Optional<Answer> find(Long attenderStateId, Long questionId) {
+        for (Map<Long, PendingSheet> sheets : List.of(pending, inFlight)) {
+            PendingSheet sheet = sheets.get(attenderStateId);
+            if (sheet != null && sheet.answers.containsKey(questionId)) {
+                return Optional.of(sheet.answers.get(questionId));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 현재 트랜잭션에서 응시 상태 하나의 답안을 쓴다. 롤백되면 버퍼로 되돌린다.
+     * 응시 상태를 잠근 트랜잭션에서 불러야 flushAll 이 쓰는 중인 답안까지 빠짐없이 쓴다.
+     */
+    public void flush(Long attenderStateId) {
+        Map<Long, PendingSheet> sheets = new HashMap<>();
+        synchronized (this) {
+            take(attenderStateId, sheets);
+        }
+        flushInTransaction(sheets);
+    }
+
+    /**
+     * 현재 트랜잭션에서 시험 하나의 답안을 모두 쓴다. 롤백되면 버퍼로 되돌린다.
+     * 시험의 응시 상태를 잠근 트랜잭션에서 불러야 flushAll 이 쓰는 중인 답안까지 빠짐없이 쓴다.
+     */
+    public void flushExam(Long examId) {
+        Map<Long, PendingSheet> sheets = new HashMap<>();
+        synchronized (this) {
+            Set<Long> attenderStateIds = new HashSet<>();
+            for (Map<Long, PendingSheet> candidates : List.of(pending, inFlight)) {
+                candidates.forEach((attenderStateId, sheet) -> {
+                    if (sheet.examId.equals(examId)) {
+                        attenderStateIds.add(attenderStateId);
+                    }
+                });
+            }
+            attenderStateIds.forEach(attenderStateId -> take(attenderStateId, sheets));
+        }
+        flushInTransaction(sheets);
+    }
+
+    @Scheduled(fixedDelayString = "${exam.answer-buffer.flush-interval:1000}",
+        initialDelayString = "${exam.answer-buffer.flush-interval:1000}")
+    public void flushAll() {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, PendingSheet> sheets;
+        List<Path> journals;
+        synchronized (this) {
+            // 이후의 쓰기는 새 journal 로 간다. 여기까지의 journal 은 이번 flush 가 성공하면 지운다
+            if (journalWritten) {
+                rotateJournal();
+            }
+            sheets = new HashMap<>(pending);
+            pending.clear();
+            inFlight.putAll(sheets);
+            journals = new ArrayList<>(sealedJournals);
+        }
+        if (!sheets.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeOnGoing(sheets));
+            } catch (RuntimeException e) {
+                log.error("failed to flush buffered answers, retrying later", e);
+                synchronized (this) {
+                    restore(sheets);
+                    land(sheets);
+                }
+                return;
+            }
+            land(sheets);
+        }
+        synchronized (this) {
+            sealedJournals.removeAll(journals);
+        }
+        for (Path path : journals) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("failed to delete answer journal {}", path, e);
+            }
+        }
+    }
+
+    private void flushInTransaction(Map<Long, PendingSheet> sheets) {
+        if (sheets.isEmpty()) {
+            return;
+        }
+        sheets.forEach((attenderStateId, sheet) ->
+            attenderAnswerBatchRepository.upsertAll(attenderStateId, sheet.answers));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            markFlushed(sheets.keySet());
+                        } else {
+                            restore(sheets);
+                        }
+                    }
+                });
+        } else {
+            markFlushed(sheets.keySet());
+        }
+    }
+
+    private void writeOnGoing(Map<Long, PendingSheet> sheets) {
+        // 버퍼에 있는 동안 제출됐거나 지워진 응시 상태의 답안은 버린다.
+        // 잠근 뒤에 쓰므로 이미 채점이 시작된 답안지에는 쓰지 않는다
+        Set<Long> onGoingIds = new HashSet<>(attenderStateRepository
+            .findLockedIdsByIdInAndProgress(sheets.keySet(), AttendingProgress.ONGOING));
+        // 잠금을 기다리는 동안 putAll, delete 가 더 최신 답안을 썼다
+        synchronized (this) {
+            onGoingIds.removeAll(superseded);
+        }
+        sheets.forEach((attenderStateId, sheet) -> {
+            if (onGoingIds.contains(attenderStateId)) {
+                attenderAnswerBatchRepository.upsertAll(attenderStateId, sheet.answers);
+            }
+        });
+    }
+
+    private void take(Long attenderStateId, Map<Long, PendingSheet> sheets) {
+        // 쓰는 중인 답안 위에 그 뒤로 들어온 답안을 덮는다
+        PendingSheet flushing = inFlight.get(attenderStateId);
+        PendingSheet latest = pending.remove(attenderStateId);
+        if (flushing == null && latest == null) {
+            return;
+        }
+        PendingSheet sheet = new PendingSheet((latest != null ? latest : flushing).examId);
+        if (flushing != null) {
+            sheet.answers.putAll(flushing.answers);
+            superseded.add(attenderStateId);
+        }
+        if (latest != null) {
+            sheet.answers.putAll(latest.answers);
+        }
+        sheets.put(attenderStateId, sheet);
+    }
+
+    private synchronized void land(Map<Long, PendingSheet> sheets) {
+        sheets.keySet().forEach(attenderStateId -> {
+            inFlight.remove(attenderStateId);
+            superseded.remove(attenderStateId);
+        });
+    }
+
+    private synchronized void restore(Map<Long, PendingSheet> sheets) {
+        // 그 사이 새로 들어온 답안이 있으면 그 쪽이 최신이다. 예전 journal 은 지워졌을 수 있으니 다시 남긴다
+        sheets.forEach((attenderStateId, sheet) -> {
+            PendingSheet current = pending.computeIfAbsent(attenderStateId,
+                id -> new PendingSheet(sheet.examId));
+            sheet.answers.forEach((questionId, answer) -> {
+                if (current.answers.putIfAbsent(questionId, answer) == null) {
+                    appendWrite(sheet.examId, attenderStateId, questionId, answer);
+                }
+            });
+        });
+    }
+
+    private synchronized void markFlushed(Set<Long> attenderStateIds) {
+        // 재시작 때 이미 쓴 답안을 다시 덮어쓰지 않도록 journal 에 표시한다
+        for (Long attenderStateId : attenderStateIds) {
+            if (!pending.containsKey(attenderStateId)) {
+                appendJournal(FLUSHED + '\t' + attenderStateId);
+            }
+        }
+    }
+
+    private void appendWrite(Long examId, Long attenderStateId, Long questionId, Answer answer) {
+        appendJournal(WRITE + '\t' + attenderStateId + '\t' + examId + '\t' + questionId + '\t'
+            + answerConverter.convertToDatabaseColumn(answer));
+    }
+
+    private void appendJournal(String line) {
+        if (journal == null) {
+            throw new IllegalStateException("Answer write buffer is not enabled");
+        }
+        try {
+            journal.write(line);
+            journal.newLine();
+            journal.flush();
+            journalWritten = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void replay(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", 5);
+                try {
+                    if (fields[0].equals(FLUSHED)) {
+                        pending.remove(Long.valueOf(fields[1]));
+                    } else {
+                        Long attenderStateId = Long.valueOf(fields[1]);
+                        Long examId = Long.valueOf(fields[2]);
+                        pending.computeIfAbsent(attenderStateId, id -> new PendingSheet(examId))
+                            .answers.put(Long.valueOf(fields[3]),
+                                answerConverter.convertToEntityAttribute(fields[4]));
+                    }
+                } catch (RuntimeException e) {
+                    // 죽기 직전에 쓰다 만 마지막 줄
+                    log.warn("skipping broken answer journal line in {}: {}", path, line);
+                }
+            }
+        }
+    }
+
+    private void rotateJournal() {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sealedJournals.add(journalPath(journalSequence));
+        openJournal();
+    }
+
+    private void openJournal() {
+        journalSequence++;
+        try {
+            journal = Files.newBufferedWriter(journalPath(journalSequence), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            journalWritten = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Path> listJournals() throws IOException {
+        try (Stream<Path> paths = Files.list(journalDir)) {
+            return paths.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(JOURNAL_PREFIX) && name.endsWith(JOURNAL_SUFFIX);
+            }).sorted(Comparator.comparingLong(this::sequenceOf)).collect(Collectors.toList());
+        }
+    }
+
+    private Path journalPath(long sequence) {
+        return journalDir.resolve(JOURNAL_PREFIX + sequence + JOURNAL_SUFFIX);
+    }
+
+    private long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(
+            name.substring(JOURNAL_PREFIX.length(), name.length() - JOURNAL_SUFFIX.length()));
+    }
+
+    private static final class PendingSheet {
+
+        private final Long examId;
+        private final Map<Long, Answer> answers = new HashMap<>();
+
+        private PendingSheet(Long examId) {
+            this.examId = examId;
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package kr.pullgo.pullgoserver.service.exam;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.model.ExamDeadline;
+import kr.pullgo.pullgoserver.persistence.repository.ExamDeadlineRepository;
 import kr.pullgo.pullgoserver.service.cron.CronJob;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -13,14 +22,41 @@ public class ExamCronJobService {
 
     private final String CRON_NAME = "exam";
     private final CronJob cronJob;
+    private final ExamDeadlineRepository examDeadlineRepository;
 
+    @Transactional
     public void registerExamCronJob(Exam exam, Consumer<Exam> job) {
+        registerExamDeadline(exam);
         cronJob.register(exam.getId(), () -> job.accept(exam), exam.getExamEndTime(), CRON_NAME);
     }
 
+    @Transactional
+    public void registerExamDeadline(Exam exam) {
+        ExamDeadline deadline = examDeadlineRepository.findByExamId(exam.getId())
+            .orElseGet(() -> ExamDeadline.builder().examId(exam.getId()).build());
+        deadline.setDueDateTime(exam.getExamEndTime());
+        examDeadlineRepository.save(deadline);
+    }
+
     @Transactional
     public void removeExamCronJob(Exam exam) {
+        examDeadlineRepository.removeByExamId(exam.getId());
         cronJob.remove(exam.getId(), CRON_NAME);
     }
 
+    @Transactional(readOnly = true)
+    public List<Long> findDueExamIds(LocalDateTime now, int limit) {
+        return examDeadlineRepository.findByDueDateTimeBefore(now,
+            PageRequest.of(0, limit, Sort.by("dueDateTime"))).stream()
+            .map(ExamDeadline::getExamId)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean claimDeadline(Long examId) {
+        Optional<ExamDeadline> deadline = examDeadlineRepository.findLockedByExamId(examId);
+        deadline.ifPresent(examDeadlineRepository::delete);
+        return deadline.isPresent();
+    }
+
 }
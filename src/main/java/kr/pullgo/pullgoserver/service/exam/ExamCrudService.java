@@ -8,6 +8,8 @@ import kr.pullgo.pullgoserver.persistence.model.Exam;
 import kr.pullgo.pullgoserver.persistence.model.Teacher;
 import kr.pullgo.pullgoserver.persistence.repository.ExamRepository;
 import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
+import kr.pullgo.pullgoserver.service.helper.CursorHelper;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,9 +26,12 @@ public class ExamCrudService {
     private final ExamDtoMapper dtoMapper;
     private final ExamRepository examRepository;
     private final RepositoryHelper repoHelper;
+    private final CursorHelper cursorHelper;
     private final ExamAuthorizer examAuthorizer;
     private final ExamFinishService examFinishService;
     private final ExamCronJobService examCronJobService;
+    private final QuestionSnapshotService questionSnapshotService;
+    private final ExamStatisticsService examStatisticsService;
 
     @Transactional
     public ExamDto.Result create(ExamDto.Create dto, Authentication authentication) {
@@ -41,7 +46,7 @@ public class ExamCrudService {
 
         exam = examRepository.save(exam);
 
-        examCronJobService.registerExamCronJob(exam, examFinishService::finishExam);
+        examCronJobService.registerExamCronJob(exam, examFinishService::finishExamOnDeadline);
 
         return dtoMapper.asResultDto(exam);
     }
@@ -54,8 +59,13 @@ public class ExamCrudService {
 
     @Transactional(readOnly = true)
     public List<ExamDto.Result> search(Specification<Exam> spec, Pageable pageable) {
-        Page<Exam> entities = examRepository.findAll(spec, pageable);
-        return dtoMapper.asResultDto(entities);
+        return examRepository.findAll(spec, pageable, dtoMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ExamDto.Result> search(Specification<Exam> spec, String cursor, int size) {
+        return cursorHelper.searchById(examRepository, spec, cursor, size, dtoMapper,
+            ExamDto.Result::getId);
     }
 
     @Transactional
@@ -79,7 +89,7 @@ public class ExamCrudService {
             entity.setPassScore(dto.getPassScore());
         }
         examCronJobService.removeExamCronJob(entity);
-        examCronJobService.registerExamCronJob(entity, examFinishService::finishExam);
+        examCronJobService.registerExamCronJob(entity, examFinishService::finishExamOnDeadline);
 
         return dtoMapper.asResultDto(examRepository.save(entity));
     }
@@ -90,6 +100,8 @@ public class ExamCrudService {
         examAuthorizer.requireCreator(authentication, entity);
 
         examCronJobService.removeExamCronJob(entity);
+        questionSnapshotService.evictSnapshot(entity.getId());
+        examStatisticsService.clear(entity.getId());
         examRepository.delete(entity);
     }
 }
\ No newline at end of file
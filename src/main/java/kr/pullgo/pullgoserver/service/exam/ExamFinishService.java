@@ -1,32 +1,70 @@
 package kr.pullgo.pullgoserver.service.exam;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
+import kr.pullgo.pullgoserver.persistence.model.AnswerKey;
 import kr.pullgo.pullgoserver.persistence.model.AttenderState;
 import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderStateRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamRepository;
 import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExamFinishService {
 
+    private static final int DEADLINE_CLAIM_SIZE = 100;
+
     private final ExamAuthorizer examAuthorizer;
     private final ExamCronJobService examCronJobService;
     private final OnGoingExamFindService onGoingExamFindService;
+    private final ExamRepository examRepository;
+    private final AnswerKeyService answerKeyService;
+    private final AnswerWriteBuffer answerWriteBuffer;
+    private final ExamStatisticsService examStatisticsService;
+    private final AttenderStateRepository attenderStateRepository;
+    private final PlatformTransactionManager transactionManager;
 
     @PostConstruct
     public void init() {
-        this.registerCronJobsByOnGoingStatusExams();
+        this.registerDeadlinesOfUnscheduledExams();
+    }
+
+    public void registerDeadlinesOfUnscheduledExams() {
+        onGoingExamFindService.getUnscheduledOnGoingExams()
+            .forEach(examCronJobService::registerExamDeadline);
     }
 
-    public void registerCronJobsByOnGoingStatusExams() {
-        onGoingExamFindService.getOnGoingExams().forEach(
-            exam -> examCronJobService.registerExamCronJob(exam, this::finishExam));
+    @Scheduled(fixedDelayString = "${exam.deadline.poll-interval}",
+        initialDelayString = "${exam.deadline.poll-interval}")
+    public void finishDueExams() {
+        // 시험마다 따로 claim 하고 마감한다. 한 시험이 실패해도 나머지는 마감하고, 실패한 시험은 다음 poll 때 다시 시도한다
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (Long examId : examCronJobService.findDueExamIds(LocalDateTime.now(),
+            DEADLINE_CLAIM_SIZE)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> finishClaimedExam(examId));
+            } catch (RuntimeException e) {
+                log.error("failed to finish exam {} on deadline, retrying later", examId, e);
+            }
+        }
+    }
+
+    @Transactional
+    public void finishExamOnDeadline(Exam exam) {
+        finishClaimedExam(exam.getId());
     }
 
     @Transactional
@@ -40,17 +78,29 @@ public class ExamFinishService {
 
     @Transactional
     public void finishExam(Exam exam) {
-        exam.getAttenderStates().stream().filter(attenderState ->
-                attenderState.getProgress() == AttendingProgress.ONGOING)
-            .forEach(AttenderState::mark);
+        // 응시 중인 답안지를 먼저 잠가서, 동시에 들어온 제출과 같은 답안지를 두 번 채점하지 않는다
+        List<Long> onGoingIds = attenderStateRepository
+            .findLockedIdsByExamIdAndProgress(exam.getId(), AttendingProgress.ONGOING);
+        answerWriteBuffer.flushExam(exam.getId());
+        if (!onGoingIds.isEmpty()) {
+            // 응시 중인 답안지를 답안과 함께 한 번에 읽고, 미리 컴파일한 채점표로 채점한다
+            AnswerKey answerKey = answerKeyService.getAnswerKey(exam.getId());
+            List<AttenderState> markedStates = attenderStateRepository
+                .findDistinctByExamIdAndProgress(exam.getId(), AttendingProgress.ONGOING)
+                .stream()
+                .filter(attenderState -> attenderState.mark(answerKey))
+                .collect(Collectors.toList());
+            examStatisticsService.record(exam, markedStates, answerKey);
+        }
         exam.setFinished(true);
+        answerKeyService.evictAnswerKey(exam.getId());
     }
 
-    @Transactional
-    public void finishAllExam() {
-        onGoingExamFindService.getOnGoingExams().filter(exam ->
-            exam.getExamEndTime().isBefore(LocalDateTime.now())).forEach(
-            ExamFinishService.this::finishExam
-        );
+    private void finishClaimedExam(Long examId) {
+        // 다른 노드나 타이머가 이미 claim 한 시험은 건너뛴다
+        if (!examCronJobService.claimDeadline(examId)) {
+            return;
+        }
+        examRepository.findById(examId).filter(Exam::isOnGoing).ifPresent(this::finishExam);
     }
 }
@@ -0,0 +1,143 @@
+package kr.pullgo.pullgoserver.service.exam;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import kr.pullgo.pullgoserver.dto.ExamResultDto;
+import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
+import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderStateRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamResultExportRepository;
+import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
+import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 시험 결과를 응답에 바로 쓴다. 답안지는 DB 에서 읽는 대로 내보내므로 응시자가 많아도 모아 두지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExamResultExportService {
+
+    private static final String[] CSV_HEADER = {"attenderStateId", "attenderId", "username",
+        "fullName", "progress", "score"};
+
+    private final ExamResultExportRepository exportRepository;
+    private final AnswerKeyService answerKeyService;
+    private final AnswerWriteBuffer answerWriteBuffer;
+    private final AttenderStateRepository attenderStateRepository;
+    private final ExamAuthorizer examAuthorizer;
+    private final RepositoryHelper repoHelper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 권한 확인과 버퍼에 남은 답안 쓰기는 요청 스레드에서 끝내고, 결과는 돌려준 body 가 쓰일 때 읽는다.
+     */
+    @Transactional
+    public StreamingResponseBody export(Long examId, ExamResultDto.Format format,
+        Authentication authentication) {
+        Exam exam = repoHelper.findExamOrThrow(examId);
+        examAuthorizer.requireCreator(authentication, exam);
+        if (answerWriteBuffer.isEnabled()) {
+            // flushAll 이 쓰는 중인 답안까지 가져오도록 응시 중인 답안지를 잠그고 쓴다
+            attenderStateRepository.findLockedIdsByExamIdAndProgress(examId,
+                AttendingProgress.ONGOING);
+            answerWriteBuffer.flushExam(examId);
+        }
+
+        if (format == ExamResultDto.Format.NDJSON) {
+            return out -> writeNdjson(examId, out);
+        }
+        long[] questionIds = answerKeyService.getAnswerKey(examId).getQuestionIds();
+        return out -> writeCsv(examId, questionIds, out);
+    }
+
+    private void writeCsv(Long examId, long[] questionIds, OutputStream out)
+        throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        StringJoiner header = new StringJoiner(",", "", "\r\n");
+        for (String column : CSV_HEADER) {
+            header.add(column);
+        }
+        for (long questionId : questionIds) {
+            header.add("question:" + questionId);
+        }
+        writer.write(header.toString());
+
+        forEachResult(examId, row -> {
+            StringJoiner line = new StringJoiner(",", "", "\r\n")
+                .add(String.valueOf(row.getAttenderStateId()))
+                .add(toCsvValue(row.getAttenderId()))
+                .add(toCsvText(row.getUsername()))
+                .add(toCsvText(row.getFullName()))
+                .add(row.getProgress().name())
+                .add(toCsvValue(row.getScore()));
+            for (long questionId : questionIds) {
+                Set<Integer> answer = row.getAnswers().get(questionId);
+                line.add(answer == null ? "" : answer.stream().map(String::valueOf)
+                    .collect(Collectors.joining(" ")));
+            }
+            writer.write(line.toString());
+        });
+        writer.flush();
+    }
+
+    private void writeNdjson(Long examId, OutputStream out) throws IOException {
+        forEachResult(examId, row -> {
+            out.write(objectMapper.writeValueAsBytes(row));
+            out.write('\n');
+        });
+        out.flush();
+    }
+
+    private void forEachResult(Long examId, RowWriter rowWriter) throws IOException {
+        try {
+            exportRepository.forEachResult(examId, row -> {
+                try {
+                    rowWriter.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static String toCsvText(String value) {
+        // 응시자가 입력한 값이 스프레드시트에서 수식으로 실행되지 않도록 앞에 ' 를 붙인다
+        if (value != null && !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            return toCsvValue("'" + value);
+        }
+        return toCsvValue(value);
+    }
+
+    private static String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.chars().anyMatch(c -> c == ',' || c == '"' || c == '\r' || c == '\n')) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+
+        void write(ExamResultDto.Row row) throws IOException;
+    }
+}
@@ -0,0 +1,160 @@
+package kr.pullgo.pullgoserver.service.exam;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.pullgo.pullgoserver.dto.ExamStatisticsDto;
+import kr.pullgo.pullgoserver.persistence.model.AnswerKey;
+import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
+import kr.pullgo.pullgoserver.persistence.model.AttenderState;
+import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
+import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.model.ExamStatisticCounter;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderStateRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterRepository;
+import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
+import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채점이 끝날 때마다 시험별 counter 를 갱신해 두고, 통계 조회는 counter 만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExamStatisticsService {
+
+    private static final String ATTENDERS = "attenders";
+    private static final String SCORE_SUM = "score-sum";
+    private static final String PASSED = "passed";
+    private static final String SCORE_BUCKET = "score-bucket:";
+    private static final String QUESTION_CORRECT = "question-correct:";
+    private static final int BUCKET_SIZE = 10;
+    private static final int BUCKET_COUNT = 100 / BUCKET_SIZE + 1;
+
+    private final ExamStatisticCounterRepository counterRepository;
+    private final ExamStatisticCounterBatchRepository counterBatchRepository;
+    private final AttenderStateRepository attenderStateRepository;
+    private final AnswerKeyService answerKeyService;
+    private final ExamAuthorizer examAuthorizer;
+    private final RepositoryHelper repoHelper;
+
+    /**
+     * 방금 채점한 답안지를 counter 에 더한다. 채점과 같은 트랜잭션에서 부른다.
+     */
+    public void record(Exam exam, Collection<AttenderState> markedStates, AnswerKey answerKey) {
+        counterBatchRepository.incrementAll(exam.getId(),
+            countDeltas(exam, markedStates, answerKey, 1));
+    }
+
+    /**
+     * 채점된 답안지를 지우기 전에 counter 에서 뺀다.
+     */
+    public void retract(Exam exam, AttenderState attenderState) {
+        if (attenderState.getProgress() != AttendingProgress.COMPLETE) {
+            return;
+        }
+        counterBatchRepository.incrementAll(exam.getId(), countDeltas(exam,
+            List.of(attenderState), answerKeyService.getAnswerKey(exam.getId()), -1));
+    }
+
+    public void clear(Long examId) {
+        counterRepository.removeByExamId(examId);
+    }
+
+    @Transactional(readOnly = true)
+    public ExamStatisticsDto.Result read(Long examId, Authentication authentication) {
+        Exam exam = repoHelper.findExamOrThrow(examId);
+        examAuthorizer.requireCreator(authentication, exam);
+        return toResult(exam);
+    }
+
+    /**
+     * counter 를 지우고 채점된 답안지로부터 다시 만든다. 기능을 켜기 전에 끝난 시험이나 배점이 바뀐 시험에 쓴다.
+     */
+    @Transactional
+    public ExamStatisticsDto.Result rebuild(Long examId, Authentication authentication) {
+        Exam exam = repoHelper.findExamOrThrow(examId);
+        examAuthorizer.requireCreator(authentication, exam);
+
+        counterRepository.removeByExamId(examId);
+        List<AttenderState> completedStates = attenderStateRepository
+            .findDistinctByExamIdAndProgress(examId, AttendingProgress.COMPLETE);
+        if (!completedStates.isEmpty()) {
+            record(exam, completedStates, answerKeyService.getAnswerKey(examId));
+        }
+        return toResult(exam);
+    }
+
+    private Map<String, Long> countDeltas(Exam exam, Collection<AttenderState> states,
+        AnswerKey answerKey, long sign) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (AttenderState attenderState : states) {
+            Integer score = attenderState.getScore();
+            if (attenderState.getProgress() != AttendingProgress.COMPLETE || score == null) {
+                continue;
+            }
+            deltas.merge(ATTENDERS, sign, Long::sum);
+            deltas.merge(SCORE_SUM, sign * score, Long::sum);
+            deltas.merge(SCORE_BUCKET + bucketOf(score), sign, Long::sum);
+            if (exam.getPassScore() != null && score >= exam.getPassScore()) {
+                deltas.merge(PASSED, sign, Long::sum);
+            }
+            for (AttenderAnswer attenderAnswer : attenderState.getAnswers()) {
+                Long questionId = attenderAnswer.getQuestion().getId();
+                if (answerKey.isCorrect(questionId, attenderAnswer.getAnswer())) {
+                    deltas.merge(QUESTION_CORRECT + questionId, sign, Long::sum);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    private ExamStatisticsDto.Result toResult(Exam exam) {
+        Map<String, Long> counters = new HashMap<>();
+        for (ExamStatisticCounter counter : counterRepository.findByExamId(exam.getId())) {
+            counters.put(counter.getName(), counter.getAmount());
+        }
+        long attenders = counters.getOrDefault(ATTENDERS, 0L);
+
+        List<Long> distribution = new ArrayList<>(BUCKET_COUNT);
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            distribution.add(counters.getOrDefault(SCORE_BUCKET + bucket, 0L));
+        }
+        List<ExamStatisticsDto.Question> questions = new ArrayList<>();
+        for (long questionId : answerKeyService.getAnswerKey(exam.getId()).getQuestionIds()) {
+            long correct = counters.getOrDefault(QUESTION_CORRECT + questionId, 0L);
+            questions.add(ExamStatisticsDto.Question.builder()
+                .questionId(questionId)
+                .correctCount(correct)
+                .correctRate(ratio(correct, attenders))
+                .build());
+        }
+
+        boolean hasPassScore = exam.getPassScore() != null;
+        long passed = counters.getOrDefault(PASSED, 0L);
+        return ExamStatisticsDto.Result.builder()
+            .examId(exam.getId())
+            .attenderCount(attenders)
+            .averageScore(ratio(counters.getOrDefault(SCORE_SUM, 0L), attenders))
+            .passScore(exam.getPassScore())
+            .passCount(hasPassScore ? passed : null)
+            .passRate(hasPassScore ? ratio(passed, attenders) : null)
+            .scoreDistribution(distribution)
+            .questions(questions)
+            .build();
+    }
+
+    private static int bucketOf(int score) {
+        return Math.max(0, Math.min(score, 100)) / BUCKET_SIZE;
+    }
+
+    private static Double ratio(long numerator, long denominator) {
+        return denominator == 0 ? null : (double) numerator / denominator;
+    }
+}
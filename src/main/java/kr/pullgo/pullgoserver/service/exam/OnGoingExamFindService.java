@@ -1,6 +1,6 @@
 package kr.pullgo.pullgoserver.service.exam;
 
-import java.util.stream.Stream;
+import java.util.List;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
 import kr.pullgo.pullgoserver.persistence.repository.ExamRepository;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
@@ -17,9 +17,9 @@ public class OnGoingExamFindService {
     private final RepositoryHelper repoHelper;
     private final ExamRepository examRepository;
 
-    @Transactional
-    public Stream<Exam> getOnGoingExams() {
-        return examRepository.findAll().stream().filter(Exam::isOnGoing);
+    @Transactional(readOnly = true)
+    public List<Exam> getUnscheduledOnGoingExams() {
+        return examRepository.findOnGoingExamsWithoutDeadline();
     }
 
     @Transactional
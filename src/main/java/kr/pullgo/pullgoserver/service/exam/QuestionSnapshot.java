@@ -0,0 +1,58 @@
+package kr.pullgo.pullgoserver.service.exam;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 시험 문제 목록을 문제 단위 JSON 으로 미리 직렬화해 둔 스냅샷. 만든 뒤에는 바뀌지 않는다.
+ */
+public final class QuestionSnapshot {
+
+    private final byte[][] questions;
+    private final String digest;
+
+    private QuestionSnapshot(byte[][] questions, String digest) {
+        this.questions = questions;
+        this.digest = digest;
+    }
+
+    static QuestionSnapshot of(List<byte[]> questions) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (byte[] question : questions) {
+            content.writeBytes(question);
+            content.write('\n');
+        }
+        return new QuestionSnapshot(questions.toArray(new byte[0][]),
+            DigestUtils.md5DigestAsHex(content.toByteArray()));
+    }
+
+    public int size() {
+        return questions.length;
+    }
+
+    /**
+     * offset 부터 최대 limit 개 문제를 JSON 배열로 이어 붙인다.
+     */
+    public byte[] render(long offset, int limit) {
+        int from = (int) Math.min(offset, questions.length);
+        int to = (int) Math.min((long) from + limit, questions.length);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write('[');
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                body.write(',');
+            }
+            body.writeBytes(questions[i]);
+        }
+        body.write(']');
+        return body.toByteArray();
+    }
+
+    /**
+     * 스냅샷 내용과 범위로 정해지는 strong ETag.
+     */
+    public String eTag(long offset, int limit) {
+        return "\"" + digest + "-" + offset + "-" + limit + "\"";
+    }
+}
@@ -0,0 +1,120 @@
+package kr.pullgo.pullgoserver.service.exam;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.pullgo.pullgoserver.dto.QuestionDto;
+import kr.pullgo.pullgoserver.dto.mapper.QuestionDtoMapper;
+import kr.pullgo.pullgoserver.persistence.repository.QuestionRepository;
+import kr.pullgo.pullgoserver.service.spec.QuestionSpecs;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 시험이 열리면 응시자 전원이 같은 문제 목록을 읽으므로, 시험마다 한 번만 조회해서 직렬화해 둔다.
+ */
+@Service
+public class QuestionSnapshotService {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final QuestionRepository questionRepository;
+    private final QuestionDtoMapper dtoMapper;
+    private final ObjectWriter writer;
+    private final int maxSize;
+    private final Map<Long, SnapshotEntry> snapshots = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QuestionSnapshotService(QuestionRepository questionRepository,
+        QuestionDtoMapper dtoMapper, ObjectMapper objectMapper,
+        @Value("${exam.question-snapshot.max-size}") int maxSize) {
+        this.questionRepository = questionRepository;
+        this.dtoMapper = dtoMapper;
+        this.writer = objectMapper.writerFor(QuestionDto.Result.class);
+        this.maxSize = maxSize;
+    }
+
+    public QuestionSnapshot getSnapshot(Long examId) {
+        // 다른 노드에서 문제가 바뀌었을 수 있으므로 읽을 때마다 버전을 확인한다. 버전을 먼저 읽고 문제를 읽으므로,
+        // 그 사이에 바뀌어도 더 새 스냅샷이 예전 버전으로 남을 뿐이고 다음 조회 때 다시 만든다
+        String version = questionRepository.findVersionByExamId(examId);
+        if (!snapshots.containsKey(examId) && snapshots.size() >= maxSize) {
+            evictOldest();
+        }
+        SnapshotEntry candidate = new SnapshotEntry(version);
+        SnapshotEntry entry = snapshots.compute(examId, (id, existing) ->
+            existing != null && existing.version.equals(version) ? existing : candidate);
+        if (entry == candidate) {
+            // 조회는 map 밖에서 한다. 같은 시험을 동시에 처음 읽는 요청들은 이 조회를 기다렸다가 같은 스냅샷을 받는다
+            try {
+                candidate.snapshot.complete(build(examId));
+            } catch (RuntimeException e) {
+                snapshots.remove(examId, candidate);
+                candidate.snapshot.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return entry.snapshot.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException
+                ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    public void evictSnapshot(Long examId) {
+        snapshots.remove(examId);
+        // 트랜잭션이 끝나기 전에 다른 요청이 이전 문제로 다시 만들었을 수 있으므로 끝난 뒤에도 한 번 더 지운다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        snapshots.remove(examId);
+                    }
+                });
+        }
+    }
+
+    private QuestionSnapshot build(Long examId) {
+        List<QuestionDto.Result> questions = questionRepository.findAll(
+            QuestionSpecs.belongsTo(examId), BY_ID, Integer.MAX_VALUE, dtoMapper);
+        List<byte[]> serialized = new ArrayList<>(questions.size());
+        try {
+            for (QuestionDto.Result question : questions) {
+                serialized.add(writer.writeValueAsBytes(question));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return QuestionSnapshot.of(serialized);
+    }
+
+    private void evictOldest() {
+        snapshots.entrySet().stream()
+            .min(Comparator.comparingLong(entry -> entry.getValue().createdAt))
+            .ifPresent(entry -> snapshots.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private static class SnapshotEntry {
+
+        private final String version;
+        private final CompletableFuture<QuestionSnapshot> snapshot = new CompletableFuture<>();
+        private final long createdAt = System.nanoTime();
+
+        private SnapshotEntry(String version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package kr.pullgo.pullgoserver.service.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.pullgo.pullgoserver.persistence.repository.BaseRepository;
+import kr.pullgo.pullgoserver.persistence.repository.Projection;
+import kr.pullgo.pullgoserver.service.spec.KeysetSpecs;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * keyset(cursor) 페이지네이션. OFFSET 과 count 쿼리 없이 마지막으로 본 key 다음부터 읽는다.
+ * cursor 는 key 값들을 이어 붙여 Base64 로 감싼 문자열이고, 빈 cursor 는 첫 페이지를 뜻한다.
+ */
+@Component
+public class CursorHelper {
+
+    private static final String DELIMITER = ":";
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final ServiceErrorHelper errorHelper;
+
+    @Autowired
+    public CursorHelper(ServiceErrorHelper errorHelper) {
+        this.errorHelper = errorHelper;
+    }
+
+    public <E, R> CursorPage<R> searchById(BaseRepository<E, Long> repository,
+        Specification<E> spec, String cursor, int size, Projection<E, R> projection,
+        Function<R, Long> idOf) {
+        String[] keys = decode(cursor, 1);
+        if (keys != null) {
+            spec = KeysetSpecs.<E>afterId(parseLong(keys[0])).and(spec);
+        }
+        return search(repository, spec, BY_ID, size, projection,
+            result -> encode(idOf.apply(result)));
+    }
+
+    /**
+     * spec 에는 cursor 이후만 남기는 조건이, sort 에는 그 key 순서가 들어 있어야 한다.
+     */
+    public <E, R> CursorPage<R> search(BaseRepository<E, ?> repository, Specification<E> spec,
+        Sort sort, int size, Projection<E, R> projection, Function<R, String> cursorOf) {
+        List<R> results = repository.findAll(spec, sort, size + 1, projection);
+        String nextCursor = null;
+        if (results.size() > size) {
+            results = results.subList(0, size);
+            nextCursor = cursorOf.apply(results.get(size - 1));
+        }
+        return new CursorPage<>(results, nextCursor);
+    }
+
+    public String encode(Object... keys) {
+        String joined = Arrays.stream(keys).map(String::valueOf)
+            .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 첫 페이지를 뜻하는 빈 cursor 면 null 을 반환한다.
+     */
+    public String[] decode(String cursor, int keyCount) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8);
+            String[] keys = joined.split(DELIMITER, -1);
+            if (keys.length == keyCount) {
+                return keys;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // 아래에서 badRequest 로 응답
+        }
+        throw errorHelper.badRequest("Invalid cursor");
+    }
+
+    public LocalDate parseDate(String key) {
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            throw errorHelper.badRequest("Invalid cursor");
+        }
+    }
+
+    public Long parseLong(String key) {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw errorHelper.badRequest("Invalid cursor");
+        }
+    }
+}
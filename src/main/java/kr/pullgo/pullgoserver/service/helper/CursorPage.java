@@ -0,0 +1,17 @@
+package kr.pullgo.pullgoserver.service.helper;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final List<T> content;
+
+    // 마지막 페이지면 null
+    private final String nextCursor;
+}
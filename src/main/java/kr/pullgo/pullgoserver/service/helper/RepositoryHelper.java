@@ -1,6 +1,7 @@
 package kr.pullgo.pullgoserver.service.helper;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import kr.pullgo.pullgoserver.persistence.model.Academy;
 import kr.pullgo.pullgoserver.persistence.model.Account;
 import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
@@ -73,14 +74,28 @@ public class RepositoryHelper {
         return findOrThrow(AttenderState.class, id);
     }
 
+    public AttenderState findLockedAttenderStateOrThrow(Long id) throws ResponseStatusException {
+        AttenderState entity = em.find(AttenderState.class, id, LockModeType.PESSIMISTIC_WRITE);
+        if (entity == null) {
+            throw errorHelper.notFound(
+                String.format("%s id was not found", AttenderState.class.getName()));
+        }
+        return entity;
+    }
+
     public AttenderAnswer findAttenderAnswerOrThrow(Long id) throws ResponseStatusException {
         return findOrThrow(AttenderAnswer.class, id);
     }
 
     public AttenderAnswer findAttenderAnswerOrThrow(Long attenderStateId, Long questionId)
         throws ResponseStatusException {
-        return findAttenderStateOrThrow(attenderStateId)
-            .getAnswers().stream().filter(it -> it.getQuestion().getId().equals(questionId))
-            .findAny().orElseThrow(() -> errorHelper.notFound("attender answer was not found"));
+        // (attender_state_id, question_id) unique index 로 한 행만 읽는다
+        return em.createQuery("select a from AttenderAnswer a"
+            + " where a.attenderState.id = :attenderStateId and a.question.id = :questionId",
+            AttenderAnswer.class)
+            .setParameter("attenderStateId", attenderStateId)
+            .setParameter("questionId", questionId)
+            .getResultStream().findAny()
+            .orElseThrow(() -> errorHelper.notFound("attender answer was not found"));
     }
 }
@@ -0,0 +1,14 @@
+package kr.pullgo.pullgoserver.service.helper;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResourceVersion {
+
+    private final String eTag;
+
+    // epoch millis, 알 수 없으면 -1
+    private final long lastModified;
+}
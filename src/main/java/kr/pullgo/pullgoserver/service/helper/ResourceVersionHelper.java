@@ -0,0 +1,88 @@
+package kr.pullgo.pullgoserver.service.helper;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.EntityManager;
+import kr.pullgo.pullgoserver.persistence.model.TimeEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티를 읽지 않고 revision, modifiedDate 컬럼만 조회해서 응답 검증값(ETag, Last-Modified)을 만든다.
+ */
+@Component
+public class ResourceVersionHelper {
+
+    private static final int COLUMNS_PER_ENTITY = 3;
+
+    private final EntityManager em;
+    private final Map<String, String> queries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ResourceVersionHelper(EntityManager em) {
+        this.em = em;
+    }
+
+    /**
+     * @param dependsOn 응답에 함께 들어가는 연관 엔티티 경로 (예: "creator", "creator.account")
+     */
+    public Optional<ResourceVersion> find(Class<? extends TimeEntity> type, Long id,
+        String... dependsOn) {
+        String jpql = queries.computeIfAbsent(type.getName() + String.join(",", dependsOn),
+            key -> buildQuery(type, dependsOn));
+        List<Object[]> rows = em.createQuery(jpql, Object[].class)
+            .setParameter("id", id)
+            .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+
+        StringBuilder eTag = new StringBuilder("\"")
+            .append(em.getMetamodel().entity(type).getName()).append('-').append(id);
+        long lastModified = -1;
+        for (int i = 0; i < row.length; i += COLUMNS_PER_ENTITY) {
+            Long revision = (Long) row[i];
+            eTag.append('.').append(revision == null ? 0L : revision);
+            LocalDateTime modified = row[i + 1] != null
+                ? (LocalDateTime) row[i + 1] : (LocalDateTime) row[i + 2];
+            if (modified != null) {
+                lastModified = Math.max(lastModified,
+                    modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+        }
+        return Optional.of(new ResourceVersion(eTag.append('"').toString(), lastModified));
+    }
+
+    private String buildQuery(Class<? extends TimeEntity> type, String[] dependsOn) {
+        StringBuilder select = new StringBuilder("select e.revision, e.modifiedDate, e.createdDate");
+        StringBuilder from = new StringBuilder(" from ")
+            .append(em.getMetamodel().entity(type).getName()).append(" e");
+        for (int i = 0; i < dependsOn.length; i++) {
+            String path = dependsOn[i];
+            int dot = path.lastIndexOf('.');
+            String parent = dot < 0 ? "e" : "d" + indexOf(dependsOn, path.substring(0, dot), i);
+            String alias = "d" + i;
+            from.append(" left join ").append(parent).append('.')
+                .append(path.substring(dot + 1)).append(' ').append(alias);
+            select.append(", ").append(alias).append(".revision, ")
+                .append(alias).append(".modifiedDate, ")
+                .append(alias).append(".createdDate");
+        }
+        return select.append(from).append(" where e.id = :id").toString();
+    }
+
+    private static int indexOf(String[] paths, String path, int before) {
+        for (int i = 0; i < before; i++) {
+            if (paths[i].equals(path)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(
+            "parent path must be listed before its children: " + path);
+    }
+}
@@ -1,46 +1,32 @@
 package kr.pullgo.pullgoserver.service.spec;
 
-import javax.persistence.criteria.Join;
 import kr.pullgo.pullgoserver.persistence.model.Classroom;
-import kr.pullgo.pullgoserver.persistence.model.Student;
-import kr.pullgo.pullgoserver.persistence.model.Teacher;
 import org.springframework.data.jpa.domain.Specification;
 
 public class ClassroomSpecs {
 
     public static Specification<Classroom> hasStudent(Long studentId) {
-        return (root, query, builder) -> {
-            Join<Classroom, Student> join = root.joinSet("students");
-            return builder.equal(join.get("id"), studentId);
-        };
+        return (root, query, builder) -> SpecSupport.hasMember(query, builder, Classroom.class,
+            root.get("id"), "students", studentId);
     }
 
     public static Specification<Classroom> hasApplyingStudent(Long applyingStudentId) {
-        return (root, query, builder) -> {
-            Join<Classroom, Teacher> join = root.joinSet("applyingStudents");
-            return builder.equal(join.get("id"), applyingStudentId);
-        };
+        return (root, query, builder) -> SpecSupport.hasMember(query, builder, Classroom.class,
+            root.get("id"), "applyingStudents", applyingStudentId);
     }
 
     public static Specification<Classroom> hasTeacher(Long teacherId) {
-        return (root, query, builder) -> {
-            Join<Classroom, Teacher> join = root.joinSet("teachers");
-            return builder.equal(join.get("id"), teacherId);
-        };
+        return (root, query, builder) -> SpecSupport.hasMember(query, builder, Classroom.class,
+            root.get("id"), "teachers", teacherId);
     }
 
     public static Specification<Classroom> hasApplyingTeacher(Long applyingTeacherId) {
-        return (root, query, builder) -> {
-            Join<Classroom, Teacher> join = root.joinSet("applyingTeachers");
-            return builder.equal(join.get("id"), applyingTeacherId);
-        };
+        return (root, query, builder) -> SpecSupport.hasMember(query, builder, Classroom.class,
+            root.get("id"), "applyingTeachers", applyingTeacherId);
     }
 
     public static Specification<Classroom> belongsTo(Long academyId) {
-        return (root, query, builder) -> {
-            Join<Classroom, Teacher> join = root.join("academy");
-            return builder.equal(join.get("id"), academyId);
-        };
+        return (root, query, builder) -> builder.equal(root.get("academy").get("id"), academyId);
     }
 
     public static Specification<Classroom> nameLike(String pattern) {
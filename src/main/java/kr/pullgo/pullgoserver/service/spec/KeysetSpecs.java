@@ -0,0 +1,11 @@
+package kr.pullgo.pullgoserver.service.spec;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public class KeysetSpecs {
+
+    public static <T> Specification<T> afterId(Long id) {
+        return (root, query, builder) -> builder.greaterThan(root.get("id"), id);
+    }
+
+}
@@ -0,0 +1,30 @@
+package kr.pullgo.pullgoserver.service.spec;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+
+/**
+ * 컬렉션 조건은 join 대신 EXISTS 로 걸어 결과 행이 중복되지 않게 한다.
+ */
+class SpecSupport {
+
+    /**
+     * ownerId 인 owner 의 collection 에 memberId 가 들어 있는지 EXISTS 서브쿼리로 확인한다.
+     */
+    static <O> Predicate hasMember(CriteriaQuery<?> query, CriteriaBuilder builder,
+        Class<O> ownerType, Expression<?> ownerId, String collection, Long memberId) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<O> owner = subquery.from(ownerType);
+        Join<O, ?> member = owner.join(collection);
+        subquery.select(member.get("id")).where(
+            builder.equal(owner.get("id"), ownerId),
+            builder.equal(member.get("id"), memberId));
+        return builder.exists(subquery);
+    }
+
+}
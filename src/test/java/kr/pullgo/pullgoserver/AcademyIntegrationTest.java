@@ -12,6 +12,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
@@ -24,6 +25,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,6 +51,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
@@ -150,6 +153,47 @@ public class AcademyIntegrationTest {
                 )));
         }
 
+        @Test
+        void getAcademy_SameETag_NotModified() throws Exception {
+            // Given
+            Long academyId = trxHelper.doInTransaction(() ->
+                entityHelper.generateAcademy().getId());
+            String eTag = mockMvc.perform(get("/academies/{id}", academyId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When
+            ResultActions actions = mockMvc.perform(get("/academies/{id}", academyId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+            // Then
+            actions
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(emptyString()));
+        }
+
+        @Test
+        void getAcademy_ModifiedAfterETag_Ok() throws Exception {
+            // Given
+            Long academyId = trxHelper.doInTransaction(() ->
+                entityHelper.generateAcademy().getId());
+            String eTag = mockMvc.perform(get("/academies/{id}", academyId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            trxHelper.doInTransaction(() ->
+                academyRepository.findById(academyId).orElseThrow().setName("바뀐 학원"));
+
+            // When
+            ResultActions actions = mockMvc.perform(get("/academies/{id}", academyId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+            // Then
+            actions
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.name").value("바뀐 학원"));
+        }
+
         @Test
         void getAcademy_AcademyNotFound_NotFoundStatus() throws Exception {
             // When
@@ -11,6 +11,7 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -27,7 +28,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import kr.pullgo.pullgoserver.docs.ApiDocumentation;
 import kr.pullgo.pullgoserver.dto.AcademyDto;
@@ -583,6 +586,175 @@ public class AttenderAnswerIntegrationTest {
         }
     }
 
+    @Nested
+    class PutAllAttenderAnswers {
+
+        @Test
+        void 답안지_전체를_한번에_put() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                AttenderState attenderState = entityHelper.generateAttenderState();
+                Exam exam = attenderState.getExam();
+                Question question1 = entityHelper.generateQuestion(it -> it.withExam(exam));
+                Question question2 = entityHelper.generateQuestion(it -> it.withExam(exam));
+                Question question3 = entityHelper.generateQuestion(it -> it.withExam(exam));
+                entityHelper.generateAttenderAnswer(it -> it.withQuestion(question1)
+                    .withAnswer(new Answer(4, 5)).withAttenderState(attenderState));
+                String token = authHelper.generateToken(
+                    it -> attenderState.getAttender().getAccount());
+                return new Struct()
+                    .withValue("token", token)
+                    .withValue("attenderStateId", attenderState.getId())
+                    .withValue("question1Id", question1.getId())
+                    .withValue("question2Id", question2.getId())
+                    .withValue("question3Id", question3.getId());
+            });
+            Long attenderStateId = given.valueOf("attenderStateId");
+            Long question1Id = given.valueOf("question1Id");
+            Long question2Id = given.valueOf("question2Id");
+            Long question3Id = given.valueOf("question3Id");
+            String token = given.valueOf("token");
+
+            // When
+            Map<Long, AttenderAnswerDto.Put> dtos = Map.of(
+                question1Id, AttenderAnswerDto.Put.builder().answer(Set.of(1)).build(),
+                question2Id, AttenderAnswerDto.Put.builder().answer(Set.of(2, 3)).build(),
+                question3Id, AttenderAnswerDto.Put.builder().answer(Set.of(5)).build());
+            String body = toJson(dtos);
+
+            ResultActions actions = mockMvc.perform(
+                put("/exam/attender-state/{attenderStateId}/answers", attenderStateId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "Bearer " + token)
+                    .content(body));
+
+            // Then
+            actions
+                .andExpect(status().isNoContent());
+
+            Map<Long, Answer> answers = trxHelper.doInTransaction(() ->
+                attenderAnswerRepository.findAll().stream()
+                    .filter(it -> it.getAttenderState().getId().equals(attenderStateId))
+                    .collect(Collectors.toMap(it -> it.getQuestion().getId(),
+                        AttenderAnswer::getAnswer)));
+            assertThat(answers).containsOnly(
+                Map.entry(question1Id, new Answer(1)),
+                Map.entry(question2Id, new Answer(2, 3)),
+                Map.entry(question3Id, new Answer(5)));
+
+            // Document
+            actions.andDo(document("attenderAnswers-put-example",
+                requestFields(
+                    subsectionWithPath("*").type("Long").description("문제 ID"),
+                    fieldWithPath("*.answer").type("Number[]")
+                        .description("정답 (객관식, 1~5 범위의 정수 배열)")
+                )));
+        }
+
+        @Test
+        void 다른_시험의_Question이_섞인_답안지_put() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                AttenderState attenderState = entityHelper.generateAttenderState();
+                Question question = entityHelper.generateQuestion(
+                    it -> it.withExam(attenderState.getExam()));
+                Question otherQuestion = entityHelper.generateQuestion();
+                String token = authHelper.generateToken(
+                    it -> attenderState.getAttender().getAccount());
+                return new Struct()
+                    .withValue("token", token)
+                    .withValue("attenderStateId", attenderState.getId())
+                    .withValue("questionId", question.getId())
+                    .withValue("otherQuestionId", otherQuestion.getId());
+            });
+            Long attenderStateId = given.valueOf("attenderStateId");
+            Long questionId = given.valueOf("questionId");
+            Long otherQuestionId = given.valueOf("otherQuestionId");
+            String token = given.valueOf("token");
+
+            Map<Long, AttenderAnswerDto.Put> dtos = Map.of(
+                questionId, anAttenderAnswerPutDto(),
+                otherQuestionId, anAttenderAnswerPutDto());
+            String body = toJson(dtos);
+
+            // When
+            ResultActions actions = mockMvc.perform(
+                put("/exam/attender-state/{attenderStateId}/answers", attenderStateId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "Bearer " + token)
+                    .content(body));
+
+            // Then
+            actions
+                .andExpect(status().isNotFound());
+            assertThat(attenderAnswerRepository.findAll()).isEmpty();
+        }
+
+        @Test
+        void 응시중이_아닌_AttenderState로_답안지_put() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                AttenderState attenderState = entityHelper.generateAttenderState(
+                    it -> it.withProgress(AttendingProgress.COMPLETE));
+                Question question = entityHelper.generateQuestion(
+                    it -> it.withExam(attenderState.getExam()));
+                String token = authHelper.generateToken(
+                    it -> attenderState.getAttender().getAccount());
+                return new Struct()
+                    .withValue("token", token)
+                    .withValue("attenderStateId", attenderState.getId())
+                    .withValue("questionId", question.getId());
+            });
+            Long attenderStateId = given.valueOf("attenderStateId");
+            Long questionId = given.valueOf("questionId");
+            String token = given.valueOf("token");
+
+            String body = toJson(Map.of(questionId, anAttenderAnswerPutDto()));
+
+            // When
+            ResultActions actions = mockMvc.perform(
+                put("/exam/attender-state/{attenderStateId}/answers", attenderStateId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "Bearer " + token)
+                    .content(body));
+
+            // Then
+            actions
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void 값이_null인_답안지_put() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                AttenderState attenderState = entityHelper.generateAttenderState();
+                Question question = entityHelper.generateQuestion(
+                    it -> it.withExam(attenderState.getExam()));
+                String token = authHelper.generateToken(
+                    it -> attenderState.getAttender().getAccount());
+                return new Struct()
+                    .withValue("token", token)
+                    .withValue("attenderStateId", attenderState.getId())
+                    .withValue("questionId", question.getId());
+            });
+            Long attenderStateId = given.valueOf("attenderStateId");
+            Long questionId = given.valueOf("questionId");
+            String token = given.valueOf("token");
+
+            // When
+            ResultActions actions = mockMvc.perform(
+                put("/exam/attender-state/{attenderStateId}/answers", attenderStateId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "Bearer " + token)
+                    .content("{\"" + questionId + "\": null}"));
+
+            // Then
+            actions
+                .andExpect(status().isBadRequest());
+            assertThat(attenderAnswerRepository.findAll()).isEmpty();
+        }
+    }
+
     @Nested
     class DeleteAttenderAnswer {
 
@@ -26,7 +26,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.sql.DataSource;
 import kr.pullgo.pullgoserver.docs.ApiDocumentation;
 import kr.pullgo.pullgoserver.dto.AttenderStateDto;
@@ -40,7 +46,9 @@ import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
 import kr.pullgo.pullgoserver.persistence.model.Question;
 import kr.pullgo.pullgoserver.persistence.model.Student;
+import kr.pullgo.pullgoserver.persistence.model.ExamStatisticCounter;
 import kr.pullgo.pullgoserver.persistence.repository.AttenderStateRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterRepository;
 import kr.pullgo.pullgoserver.util.H2DbCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -80,6 +88,9 @@ public class AttenderStateIntegrationTest {
     @Autowired
     private AttenderStateRepository attenderStateRepository;
 
+    @Autowired
+    private ExamStatisticCounterRepository examStatisticCounterRepository;
+
     @Autowired
     private DataSource dataSource;
 
@@ -535,6 +546,59 @@ public class AttenderStateIntegrationTest {
             actions.andDo(document("attenderState-submit-example"));
         }
 
+        @Test
+        void submitAttenderState_ConcurrentSubmits_GradedOnce() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                Exam exam = entityHelper.generateExam(it ->
+                    it.withTimeLimit(Duration.ofHours(1))
+                        .withBeginDateTime(LocalDateTime.now().minusHours(3))
+                        .withEndDateTime(LocalDateTime.now().plusHours(3)));
+                Question question = entityHelper.generateQuestion(it ->
+                    it.withAnswer(new Answer(1)).withExam(exam));
+                AttenderState attenderState = entityHelper.generateAttenderState(it ->
+                    it.withExamStartTime(LocalDateTime.now()).withExam(exam));
+                entityHelper.generateAttenderAnswer(it -> it.withQuestion(question)
+                    .withAnswer(new Answer(1)).withAttenderState(attenderState));
+
+                String token = authHelper.generateToken(
+                    it -> attenderState.getAttender().getAccount());
+                return new Struct()
+                    .withValue("token", token)
+                    .withValue("attenderStateId", attenderState.getId())
+                    .withValue("examId", exam.getId());
+            });
+            String token = given.valueOf("token");
+            Long attenderStateId = given.valueOf("attenderStateId");
+            Long examId = given.valueOf("examId");
+
+            // When
+            CountDownLatch start = new CountDownLatch(1);
+            Callable<Integer> submit = () -> {
+                start.await();
+                return mockMvc
+                    .perform(post("/exam/attender-states/{id}/submit", attenderStateId)
+                        .header("Authorization", "Bearer " + token))
+                    .andReturn().getResponse().getStatus();
+            };
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            List<Future<Integer>> results;
+            try {
+                results = List.of(executor.submit(submit), executor.submit(submit));
+                start.countDown();
+                assertThat(List.of(results.get(0).get(), results.get(1).get()))
+                    .containsExactlyInAnyOrder(204, 400);
+            } finally {
+                executor.shutdown();
+            }
+
+            // Then
+            assertThat(examStatisticCounterRepository.findByExamId(examId))
+                .filteredOn(it -> it.getName().equals("attenders"))
+                .extracting(ExamStatisticCounter::getAmount)
+                .containsExactly(1L);
+        }
+
         @Test
         void question이_없는_Eaxm에_submit() throws Exception {
             // Given
@@ -53,6 +53,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
@@ -528,6 +529,35 @@ public class ClassroomIntegrationTest {
                 )));
         }
 
+        @Test
+        void getClassroom_CreatorAccountModifiedAfterETag_Ok() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                Classroom classroom = entityHelper.generateClassroom();
+                return new Struct()
+                    .withValue("classroomId", classroom.getId())
+                    .withValue("creatorId", classroom.getCreator().getId());
+            });
+            Long classroomId = given.valueOf("classroomId");
+            Long creatorId = given.valueOf("creatorId");
+            String eTag = mockMvc.perform(get("/academy/classrooms/{id}", classroomId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            mockMvc.perform(get("/academy/classrooms/{id}", classroomId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+            trxHelper.doInTransaction(() -> teacherRepository.findById(creatorId).orElseThrow()
+                .getAccount().setFullName("바뀐 이름"));
+
+            // When
+            ResultActions actions = mockMvc.perform(get("/academy/classrooms/{id}", classroomId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+            // Then
+            actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creator.account.fullName").value("바뀐 이름"));
+        }
+
         @Test
         void getClassroom_ClassroomNotFound_NotFoundStatus() throws Exception {
             // When
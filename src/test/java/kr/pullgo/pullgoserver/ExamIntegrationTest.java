@@ -5,6 +5,7 @@ import static kr.pullgo.pullgoserver.helper.ExamHelper.anExamUpdateDto;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
@@ -15,19 +16,24 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -38,11 +44,16 @@ import kr.pullgo.pullgoserver.dto.ExamDto.Update;
 import kr.pullgo.pullgoserver.helper.EntityHelper;
 import kr.pullgo.pullgoserver.helper.Struct;
 import kr.pullgo.pullgoserver.helper.TransactionHelper;
+import kr.pullgo.pullgoserver.persistence.model.Answer;
+import kr.pullgo.pullgoserver.persistence.model.AttenderState;
+import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
 import kr.pullgo.pullgoserver.persistence.model.Classroom;
 import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.model.Question;
 import kr.pullgo.pullgoserver.persistence.model.Student;
 import kr.pullgo.pullgoserver.persistence.model.Teacher;
 import kr.pullgo.pullgoserver.persistence.repository.ExamRepository;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.service.cron.CronJob;
 import kr.pullgo.pullgoserver.util.H2DbCleaner;
 import org.junit.jupiter.api.BeforeEach;
@@ -58,6 +69,7 @@ import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.restdocs.payload.FieldDescriptor;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
@@ -260,6 +272,56 @@ public class ExamIntegrationTest {
                 )));
         }
 
+        @Test
+        void searchExamsByClassroomIdWithCursor() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                Classroom classroom = entityHelper.generateClassroom();
+
+                Exam examA = entityHelper.generateExam(it -> it.withClassroom(classroom));
+                entityHelper.generateExam();
+                Exam examB = entityHelper.generateExam(it -> it.withClassroom(classroom));
+                Exam examC = entityHelper.generateExam(it -> it.withClassroom(classroom));
+
+                return new Struct()
+                    .withValue("classroomId", classroom.getId())
+                    .withValue("examAId", examA.getId())
+                    .withValue("examBId", examB.getId())
+                    .withValue("examCId", examC.getId());
+            });
+            Long classroomId = given.valueOf("classroomId");
+            Long examAId = given.valueOf("examAId");
+            Long examBId = given.valueOf("examBId");
+            Long examCId = given.valueOf("examCId");
+
+            // When
+            ResultActions firstActions = mockMvc.perform(get("/exams")
+                .param("classroomId", classroomId.toString())
+                .param("cursor", "")
+                .param("size", "2"));
+            String nextCursor = firstActions.andReturn().getResponse()
+                .getHeader(CursorPage.NEXT_CURSOR_HEADER);
+            ResultActions lastActions = mockMvc.perform(get("/exams")
+                .param("classroomId", classroomId.toString())
+                .param("cursor", nextCursor)
+                .param("size", "2"));
+
+            // Then
+            firstActions
+                .andExpect(status().isOk())
+                .andExpect(header().exists(CursorPage.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.[*].id").value(contains(
+                    examAId.intValue(),
+                    examBId.intValue()
+                )));
+            lastActions
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.[*].id").value(contains(
+                    examCId.intValue()
+                )));
+        }
+
         @Test
         void searchExamsByClassroomId() throws Exception {
             // Given
@@ -778,6 +840,268 @@ public class ExamIntegrationTest {
         }
     }
 
+    @Nested
+    class ExamStatistics {
+
+        @Test
+        @WithMockUser(authorities = "ADMIN")
+        void getStatistics_AfterFinishExam() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                Exam exam = entityHelper.generateExam(it -> it.withPassScore(50));
+                Question question1 = entityHelper.generateQuestion(it ->
+                    it.withAnswer(new Answer(1)).withExam(exam));
+                Question question2 = entityHelper.generateQuestion(it ->
+                    it.withAnswer(new Answer(2)).withExam(exam));
+                generateSubmission(exam, question1, new Answer(1), question2, new Answer(2));
+                generateSubmission(exam, question1, new Answer(1), question2, new Answer(3));
+                generateSubmission(exam, question1, new Answer(5), question2, new Answer(5));
+                return new Struct()
+                    .withValue("examId", exam.getId())
+                    .withValue("question1Id", question1.getId())
+                    .withValue("question2Id", question2.getId());
+            });
+            Long examId = given.valueOf("examId");
+            Long question1Id = given.valueOf("question1Id");
+            Long question2Id = given.valueOf("question2Id");
+
+            mockMvc.perform(post("/exams/{id}/finish", examId))
+                .andExpect(status().isNoContent());
+
+            // When
+            ResultActions actions = mockMvc.perform(get("/exams/{id}/statistics", examId));
+
+            // Then
+            actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.examId").value(examId))
+                .andExpect(jsonPath("$.attenderCount").value(3))
+                .andExpect(jsonPath("$.averageScore").value(50.0))
+                .andExpect(jsonPath("$.passScore").value(50))
+                .andExpect(jsonPath("$.passCount").value(2))
+                .andExpect(jsonPath("$.scoreDistribution", hasSize(11)))
+                .andExpect(jsonPath("$.scoreDistribution[0]").value(1))
+                .andExpect(jsonPath("$.scoreDistribution[5]").value(1))
+                .andExpect(jsonPath("$.scoreDistribution[10]").value(1))
+                .andExpect(jsonPath("$.questions[0].questionId").value(question1Id))
+                .andExpect(jsonPath("$.questions[0].correctCount").value(2))
+                .andExpect(jsonPath("$.questions[1].questionId").value(question2Id))
+                .andExpect(jsonPath("$.questions[1].correctCount").value(1));
+
+            // Document
+            actions.andDo(document("exam-statistics-retrieve-example",
+                responseFields(
+                    fieldWithPath("examId").description("시험 ID"),
+                    fieldWithPath("attenderCount").description("채점된 응시자 수"),
+                    fieldWithPath("averageScore").description("평균 점수 (응시자가 없으면 null)"),
+                    fieldWithPath("passScore").description("합격 점수"),
+                    fieldWithPath("passCount").description("합격자 수 (합격 점수가 없으면 null)"),
+                    fieldWithPath("passRate").description("합격률 (합격 점수가 없으면 null)"),
+                    fieldWithPath("scoreDistribution")
+                        .description("10점 단위 구간(0~9, 10~19, ..., 90~99, 100)별 응시자 수"),
+                    subsectionWithPath("questions").description("문제별 정답자 수와 정답률")
+                )));
+        }
+
+        @Test
+        @WithMockUser(authorities = "ADMIN")
+        void rebuildStatistics_FromCompletedAttenderStates() throws Exception {
+            // Given
+            Long examId = trxHelper.doInTransaction(() -> {
+                Exam exam = entityHelper.generateExam();
+                Question question = entityHelper.generateQuestion(it ->
+                    it.withAnswer(new Answer(1)).withExam(exam));
+                for (int score : new int[]{100, 0}) {
+                    AttenderState attenderState = entityHelper.generateAttenderState(it ->
+                        it.withExam(exam).withProgress(AttendingProgress.COMPLETE)
+                            .withScore(score));
+                    entityHelper.generateAttenderAnswer(it -> it.withQuestion(question)
+                        .withAnswer(new Answer(score == 100 ? 1 : 2))
+                        .withAttenderState(attenderState));
+                }
+                return exam.getId();
+            });
+
+            // When
+            ResultActions actions = mockMvc
+                .perform(post("/exams/{id}/statistics/rebuild", examId));
+
+            // Then
+            actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attenderCount").value(2))
+                .andExpect(jsonPath("$.averageScore").value(50.0))
+                .andExpect(jsonPath("$.passCount").doesNotExist())
+                .andExpect(jsonPath("$.questions[0].correctCount").value(1))
+                .andExpect(jsonPath("$.questions[0].correctRate").value(0.5));
+
+            mockMvc.perform(get("/exams/{id}/statistics", examId))
+                .andExpect(jsonPath("$.attenderCount").value(2));
+
+            // Document
+            actions.andDo(document("exam-statistics-rebuild-example"));
+        }
+
+        @Test
+        @WithMockUser(authorities = "ADMIN")
+        void getStatistics_ExamNotFound_NotFoundStatus() throws Exception {
+            // When
+            ResultActions actions = mockMvc.perform(get("/exams/{id}/statistics", 0));
+
+            // Then
+            actions
+                .andExpect(status().isNotFound());
+        }
+
+        private void generateSubmission(Exam exam, Question question1, Answer answer1,
+            Question question2, Answer answer2) {
+            AttenderState attenderState = entityHelper.generateAttenderState(it ->
+                it.withExam(exam));
+            entityHelper.generateAttenderAnswer(it -> it.withQuestion(question1)
+                .withAnswer(answer1).withAttenderState(attenderState));
+            entityHelper.generateAttenderAnswer(it -> it.withQuestion(question2)
+                .withAnswer(answer2).withAttenderState(attenderState));
+        }
+    }
+
+    @Nested
+    class ExportExamResults {
+
+        @Test
+        @WithMockUser(authorities = "ADMIN")
+        void exportResults_Csv() throws Exception {
+            // Given
+            Struct given = givenExamResults();
+            Long examId = given.valueOf("examId");
+
+            // When
+            MvcResult started = mockMvc.perform(get("/exams/{id}/results", examId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            ResultActions actions = mockMvc.perform(asyncDispatch(started));
+
+            // Then
+            String expected = String.format(
+                "attenderStateId,attenderId,username,fullName,progress,score,"
+                    + "question:%d,question:%d\r\n"
+                    + "%d,%d,%s,%s,COMPLETE,50,1 3,\r\n"
+                    + "%d,%d,%s,%s,ONGOING,,,\r\n",
+                given.<Long>valueOf("question1Id"), given.<Long>valueOf("question2Id"),
+                given.<Long>valueOf("completeStateId"), given.<Long>valueOf("completeAttenderId"),
+                given.<String>valueOf("completeUsername"), given.<String>valueOf("fullName"),
+                given.<Long>valueOf("onGoingStateId"), given.<Long>valueOf("onGoingAttenderId"),
+                given.<String>valueOf("onGoingUsername"), given.<String>valueOf("fullName"));
+            actions
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition",
+                    "attachment; filename=\"exam-" + examId + "-results.csv\""))
+                .andExpect(content().string(expected));
+
+            // Document
+            actions.andDo(document("exam-results-export-example"));
+        }
+
+        @Test
+        @WithMockUser(authorities = "ADMIN")
+        void exportResults_FormulaLikeName_Escaped() throws Exception {
+            // Given
+            Long examId = trxHelper.doInTransaction(() -> {
+                Exam exam = entityHelper.generateExam();
+                entityHelper.generateQuestion(it -> it.withExam(exam));
+                AttenderState attenderState = entityHelper.generateAttenderState(it ->
+                    it.withExam(exam));
+                attenderState.getAttender().getAccount().setFullName("=1+2");
+                return exam.getId();
+            });
+
+            // When
+            MvcResult started = mockMvc.perform(get("/exams/{id}/results", examId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            ResultActions actions = mockMvc.perform(asyncDispatch(started));
+
+            // Then
+            actions
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(",'=1+2,ONGOING,")));
+        }
+
+        @Test
+        @WithMockUser(authorities = "ADMIN")
+        void exportResults_Ndjson() throws Exception {
+            // Given
+            Struct given = givenExamResults();
+            Long examId = given.valueOf("examId");
+            Long question1Id = given.valueOf("question1Id");
+
+            // When
+            MvcResult started = mockMvc.perform(get("/exams/{id}/results", examId)
+                .param("format", "NDJSON"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            ResultActions actions = mockMvc.perform(asyncDispatch(started));
+
+            // Then
+            String[] lines = actions
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8)
+                .split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[0]).get("attenderStateId").asLong())
+                .isEqualTo(given.<Long>valueOf("completeStateId"));
+            assertThat(objectMapper.readTree(lines[0]).get("score").asInt()).isEqualTo(50);
+            assertThat(objectMapper.readTree(lines[0]).at("/answers/" + question1Id).toString())
+                .isEqualTo("[1,3]");
+            assertThat(objectMapper.readTree(lines[1]).get("progress").asText())
+                .isEqualTo("ONGOING");
+            assertThat(objectMapper.readTree(lines[1]).get("answers").size()).isZero();
+
+            // Document
+            actions.andDo(document("exam-results-export-ndjson-example"));
+        }
+
+        @Test
+        @WithMockUser(authorities = "ADMIN")
+        void exportResults_ExamNotFound_NotFoundStatus() throws Exception {
+            // When
+            ResultActions actions = mockMvc.perform(get("/exams/{id}/results", 0));
+
+            // Then
+            actions
+                .andExpect(status().isNotFound());
+        }
+
+        private Struct givenExamResults() {
+            return trxHelper.doInTransaction(() -> {
+                Exam exam = entityHelper.generateExam();
+                Question question1 = entityHelper.generateQuestion(it ->
+                    it.withAnswer(new Answer(1, 3)).withExam(exam));
+                Question question2 = entityHelper.generateQuestion(it ->
+                    it.withAnswer(new Answer(2)).withExam(exam));
+                AttenderState complete = entityHelper.generateAttenderState(it ->
+                    it.withExam(exam).withProgress(AttendingProgress.COMPLETE).withScore(50));
+                entityHelper.generateAttenderAnswer(it -> it.withQuestion(question1)
+                    .withAnswer(new Answer(1, 3)).withAttenderState(complete));
+                AttenderState onGoing = entityHelper.generateAttenderState(it ->
+                    it.withExam(exam));
+                return new Struct()
+                    .withValue("examId", exam.getId())
+                    .withValue("question1Id", question1.getId())
+                    .withValue("question2Id", question2.getId())
+                    .withValue("completeStateId", complete.getId())
+                    .withValue("completeAttenderId", complete.getAttender().getId())
+                    .withValue("completeUsername",
+                        complete.getAttender().getAccount().getUsername())
+                    .withValue("onGoingStateId", onGoing.getId())
+                    .withValue("onGoingAttenderId", onGoing.getAttender().getId())
+                    .withValue("onGoingUsername", onGoing.getAttender().getAccount().getUsername())
+                    .withValue("fullName", complete.getAttender().getAccount().getFullName());
+            });
+        }
+    }
+
     private String toJson(Object object) throws JsonProcessingException {
         return objectMapper.writeValueAsString(object);
     }
@@ -19,6 +19,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +42,7 @@ import kr.pullgo.pullgoserver.persistence.model.Schedule;
 import kr.pullgo.pullgoserver.persistence.model.Student;
 import kr.pullgo.pullgoserver.persistence.model.Teacher;
 import kr.pullgo.pullgoserver.persistence.repository.LessonRepository;
+import kr.pullgo.pullgoserver.service.helper.CursorPage;
 import kr.pullgo.pullgoserver.util.H2DbCleaner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -242,6 +244,77 @@ public class LessonIntegrationTest {
                 )));
         }
 
+        @Test
+        void listLessonsWithCursor() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                Schedule scheduleA = entityHelper.generateSchedule(it ->
+                    it.withDate(LocalDate.of(2021, 4, 15))
+                );
+                Lesson lessonA = entityHelper.generateLesson(it -> it.withSchedule(scheduleA));
+
+                Schedule scheduleB = entityHelper.generateSchedule(it ->
+                    it.withDate(LocalDate.of(2021, 4, 1))
+                );
+                Lesson lessonB = entityHelper.generateLesson(it -> it.withSchedule(scheduleB));
+
+                Schedule scheduleC = entityHelper.generateSchedule(it ->
+                    it.withDate(LocalDate.of(2021, 4, 15))
+                );
+                Lesson lessonC = entityHelper.generateLesson(it -> it.withSchedule(scheduleC));
+
+                return new Struct()
+                    .withValue("lessonAId", lessonA.getId())
+                    .withValue("lessonBId", lessonB.getId())
+                    .withValue("lessonCId", lessonC.getId());
+            });
+            Long lessonAId = given.valueOf("lessonAId");
+            Long lessonBId = given.valueOf("lessonBId");
+            Long lessonCId = given.valueOf("lessonCId");
+
+            // When
+            ResultActions firstActions = mockMvc.perform(get("/academy/classroom/lessons")
+                .param("cursor", "")
+                .param("size", "2"));
+            String nextCursor = firstActions.andReturn().getResponse()
+                .getHeader(CursorPage.NEXT_CURSOR_HEADER);
+            ResultActions lastActions = mockMvc.perform(get("/academy/classroom/lessons")
+                .param("cursor", nextCursor)
+                .param("size", "2"));
+
+            // Then
+            firstActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].id").value(contains(
+                    lessonBId.intValue(),
+                    lessonAId.intValue()
+                )));
+            lastActions
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.[*].id").value(contains(
+                    lessonCId.intValue()
+                )));
+
+            // Document
+            firstActions.andDo(document("lesson-list-with-cursor-example",
+                requestParameters(
+                    ApiDocumentation.DOC_PARAMETER_CURSOR,
+                    ApiDocumentation.DOC_PARAMETER_SIZE
+                )));
+        }
+
+        @Test
+        void listLessonsWithCursor_InvalidCursor_BadRequestStatus() throws Exception {
+            // When
+            ResultActions actions = mockMvc.perform(get("/academy/classroom/lessons")
+                .param("cursor", "invalid"));
+
+            // Then
+            actions
+                .andExpect(status().isBadRequest());
+        }
+
         @Test
         void searchLessonsByClassroomId() throws Exception {
             // Given
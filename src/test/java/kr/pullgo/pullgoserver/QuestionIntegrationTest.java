@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
@@ -23,12 +24,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +56,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
@@ -212,6 +216,65 @@ public class QuestionIntegrationTest {
                 )));
         }
 
+        @Test
+        void postQuestions_ManyQuestions_AllCreated() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                Exam exam = entityHelper.generateExam();
+                String token = authHelper.generateToken(it -> exam.getCreator().getAccount());
+                return new Struct()
+                    .withValue("token", token)
+                    .withValue("examId", exam.getId());
+            });
+            String token = given.valueOf("token");
+            Long examId = given.valueOf("examId");
+
+            List<Create> dtos = new ArrayList<>();
+            for (int i = 0; i < 250; i++) {
+                dtos.add(aQuestionCreateDto().withExamId(examId).withContent("문제 " + i));
+            }
+
+            // When
+            ResultActions actions = mockMvc.perform(post("/exam/questions/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(toJson(dtos)));
+
+            // Then
+            actions.andExpect(status().isCreated());
+            assertThat(questionRepository.findByExamId(examId))
+                .hasSize(250)
+                .allMatch(it -> it.getAnswer().equals(new Answer(dtos.get(0).getAnswer())));
+        }
+
+        @Test
+        void postQuestions_InvalidQuestion_BadRequest() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                Exam exam = entityHelper.generateExam();
+                String token = authHelper.generateToken(it -> exam.getCreator().getAccount());
+                return new Struct()
+                    .withValue("token", token)
+                    .withValue("examId", exam.getId());
+            });
+            String token = given.valueOf("token");
+            Long examId = given.valueOf("examId");
+
+            List<Create> dtos = List.of(
+                aQuestionCreateDto().withExamId(examId),
+                aQuestionCreateDto().withExamId(examId).withContent(""));
+
+            // When
+            ResultActions actions = mockMvc.perform(post("/exam/questions/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(toJson(dtos)));
+
+            // Then
+            actions.andExpect(status().isBadRequest());
+            assertThat(questionRepository.findAll()).isEmpty();
+        }
+
         @Test
         void 일부_존재하지_않는_Exam_으로_보내는_다중생성_실패() throws Exception {
             // Given
@@ -349,6 +412,93 @@ public class QuestionIntegrationTest {
                 )));
         }
 
+        @Test
+        void searchQuestionsByExamId_SameETag_NotModified() throws Exception {
+            // Given
+            Long examId = trxHelper.doInTransaction(() -> {
+                Exam exam = entityHelper.generateExam();
+                entityHelper.generateQuestion(it -> it.withExam(exam));
+                return exam.getId();
+            });
+            String eTag = mockMvc.perform(get("/exam/questions")
+                .param("examId", examId.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When
+            ResultActions actions = mockMvc.perform(get("/exam/questions")
+                .param("examId", examId.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+            // Then
+            actions
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(emptyString()));
+        }
+
+        @Test
+        void searchQuestionsByExamId_QuestionUpdated_NewETag() throws Exception {
+            // Given
+            Struct given = trxHelper.doInTransaction(() -> {
+                Question question = entityHelper.generateQuestion();
+                String token = authHelper.generateToken(it ->
+                    question.getExam().getCreator().getAccount());
+                return new Struct()
+                    .withValue("token", token)
+                    .withValue("questionId", question.getId())
+                    .withValue("examId", question.getExam().getId());
+            });
+            String token = given.valueOf("token");
+            Long questionId = given.valueOf("questionId");
+            Long examId = given.valueOf("examId");
+            String eTag = mockMvc.perform(get("/exam/questions")
+                .param("examId", examId.toString()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(patch("/exam/questions/{id}", questionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content(toJson(Update.builder().content("바뀐 문제").build())))
+                .andExpect(status().isOk());
+
+            // When
+            ResultActions actions = mockMvc.perform(get("/exam/questions")
+                .param("examId", examId.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+            // Then
+            actions
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.[0].content").value("바뀐 문제"));
+        }
+
+        @Test
+        void searchQuestionsByExamId_QuestionUpdatedOnOtherNode_NewETag() throws Exception {
+            // Given
+            Question question = trxHelper.doInTransaction(() -> entityHelper.generateQuestion());
+            Long examId = question.getExam().getId();
+            String eTag = mockMvc.perform(get("/exam/questions")
+                .param("examId", examId.toString()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // 이 노드의 스냅샷을 지우지 않고 문제만 바꾼다
+            trxHelper.doInTransaction(() -> questionRepository.findById(question.getId())
+                .orElseThrow().setContent("다른 노드에서 바뀐 문제"));
+
+            // When
+            ResultActions actions = mockMvc.perform(get("/exam/questions")
+                .param("examId", examId.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+            // Then
+            actions
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.[0].content").value("다른 노드에서 바뀐 문제"));
+        }
+
     }
 
     @Nested
@@ -0,0 +1,164 @@
+package kr.pullgo.pullgoserver.config.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import kr.pullgo.pullgoserver.config.admission.AdmissionControlProperties.EndpointClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class AdmissionControlFilterTest {
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void doFilter_UnderLimit_Passed() throws Exception {
+        // Given
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties(0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("POST", "/exams/1/finish"), response, (req, res) -> {
+        });
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_OverLimitAndQueueFull_ServiceUnavailableWithRetryAfter() throws Exception {
+        // Given
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties(0));
+        CompletableFuture<Void> holder = holdPermit(filter);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("POST", "/exam/attender-states/3/submit"), response,
+            (req, res) -> {
+            });
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void doFilter_OverLimitAndPermitReleasedWhileWaiting_Passed() throws Exception {
+        // Given
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties(1));
+        CompletableFuture<Void> holder = holdPermit(filter);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(release::countDown);
+
+        // When
+        filter.doFilter(request("POST", "/exams/1/finish"), response, (req, res) -> {
+        });
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        holder.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void doFilter_AsyncStarted_PermitHeldUntilAsyncComplete() throws Exception {
+        // Given
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties(0));
+        MockHttpServletRequest asyncRequest = request("POST", "/exams/1/finish");
+        asyncRequest.setAsyncSupported(true);
+        filter.doFilter(asyncRequest, new MockHttpServletResponse(),
+            (req, res) -> req.startAsync());
+        MockHttpServletResponse whileAsync = new MockHttpServletResponse();
+        MockHttpServletResponse afterAsync = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("POST", "/exams/2/finish"), whileAsync, (req, res) -> {
+        });
+        asyncRequest.getAsyncContext().complete();
+        filter.doFilter(request("POST", "/exams/2/finish"), afterAsync, (req, res) -> {
+        });
+
+        // Then
+        assertThat(whileAsync.getStatus()).isEqualTo(503);
+        assertThat(afterAsync.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_OtherEndpointClass_NotLimited() throws Exception {
+        // Given
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties(0));
+        CompletableFuture<Void> holder = holdPermit(filter);
+        MockHttpServletResponse getResponse = new MockHttpServletResponse();
+        MockHttpServletResponse unmatchedResponse = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("GET", "/exams/1/finish"), getResponse, (req, res) -> {
+        });
+        filter.doFilter(request("POST", "/exams"), unmatchedResponse, (req, res) -> {
+        });
+
+        // Then
+        assertThat(getResponse.getStatus()).isEqualTo(200);
+        assertThat(unmatchedResponse.getStatus()).isEqualTo(200);
+
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+    }
+
+    private CompletableFuture<Void> holdPermit(AdmissionControlFilter filter)
+        throws InterruptedException {
+        FilterChain blocking = (req, res) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request("POST", "/exams/1/finish"),
+                    new MockHttpServletResponse(), blocking);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+        return holder;
+    }
+
+    private static AdmissionControlProperties properties(int maxQueue) {
+        EndpointClass grading = new EndpointClass();
+        grading.setPatterns(List.of("POST /exams/*/finish", "POST /exam/attender-states/*/submit"));
+        grading.setMaxConcurrent(1);
+        grading.setMaxQueue(maxQueue);
+        grading.setMaxWait(Duration.ofSeconds(1));
+        EndpointClass read = new EndpointClass();
+        read.setPatterns(List.of("GET /**"));
+
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.setRetryAfter(Duration.ofMillis(1500));
+        properties.getClasses().put("grading", grading);
+        properties.getClasses().put("read", read);
+        return properties;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
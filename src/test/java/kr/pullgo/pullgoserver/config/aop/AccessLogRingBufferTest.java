@@ -0,0 +1,97 @@
+package kr.pullgo.pullgoserver.config.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class AccessLogRingBufferTest {
+
+    @Test
+    void claim_BufferFull_EventDropped() {
+        // Given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(2, 0);
+        for (int i = 0; i < 2; i++) {
+            buffer.publish(buffer.claim());
+        }
+
+        // When
+        long position = buffer.claim();
+
+        // Then
+        assertThat(position).isEqualTo(-1);
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void drain_PublishedEvents_ReusedSlotsInOrder() {
+        // Given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(2, 0);
+        List<String> uris = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            long position = buffer.claim();
+            buffer.get(position).requestUri = "/" + i;
+            buffer.publish(position);
+            buffer.drain(event -> uris.add(event.requestUri));
+        }
+
+        // Then
+        assertThat(uris).containsExactly("/0", "/1", "/2", "/3", "/4");
+        assertThat(buffer.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void drain_ClaimedButNotPublished_StopsAtGap() {
+        // Given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4, 0);
+        long first = buffer.claim();
+        long second = buffer.claim();
+        buffer.publish(second);
+
+        // When
+        int beforePublish = buffer.drain(event -> {
+        });
+        buffer.publish(first);
+        int afterPublish = buffer.drain(event -> {
+        });
+
+        // Then
+        assertThat(beforePublish).isZero();
+        assertThat(afterPublish).isEqualTo(2);
+    }
+
+    @Test
+    void claim_ConcurrentProducers_NoEventLost() throws InterruptedException {
+        // Given
+        int producers = 4;
+        int eventsPerProducer = 1000;
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(8192, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // When
+        for (int i = 0; i < producers; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < eventsPerProducer; j++) {
+                    buffer.publish(buffer.claim());
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        int drained = buffer.drain(event -> {
+        });
+
+        // Then
+        assertThat(drained).isEqualTo(producers * eventsPerProducer);
+        assertThat(buffer.getDroppedCount()).isZero();
+    }
+}
@@ -0,0 +1,179 @@
+package kr.pullgo.pullgoserver.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.SQLException;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.sql.DataSource;
+import kr.pullgo.pullgoserver.config.aop.SchedulingConfig;
+import kr.pullgo.pullgoserver.dto.ExamDto;
+import kr.pullgo.pullgoserver.dto.mapper.ExamDtoMapper;
+import kr.pullgo.pullgoserver.helper.EntityHelper;
+import kr.pullgo.pullgoserver.helper.TransactionHelper;
+import kr.pullgo.pullgoserver.persistence.model.Answer;
+import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.model.Question;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.QuestionRepository;
+import kr.pullgo.pullgoserver.service.JwtService;
+import kr.pullgo.pullgoserver.service.authorizer.AuthenticationInspector;
+import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
+import kr.pullgo.pullgoserver.service.cron.CronJob;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.AnswerWriteBuffer;
+import kr.pullgo.pullgoserver.service.exam.ExamCronJobService;
+import kr.pullgo.pullgoserver.service.exam.ExamFinishService;
+import kr.pullgo.pullgoserver.service.exam.ExamStatisticsService;
+import kr.pullgo.pullgoserver.service.exam.OnGoingExamFindService;
+import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
+import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
+import kr.pullgo.pullgoserver.service.spec.ExamSpecs;
+import kr.pullgo.pullgoserver.util.H2DbCleaner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest(properties = "persistence.cache.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EntityHelper.class, JwtService.class, ObjectMapper.class, CronJob.class,
+    SchedulingConfig.class, ExamFinishService.class, ExamCronJobService.class,
+    OnGoingExamFindService.class, ExamAuthorizer.class, ServiceErrorHelper.class,
+    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class,
+    AnswerKeyService.class, AnswerWriteBuffer.class,
+    AttenderAnswerBatchRepository.class, ExamStatisticsService.class,
+    ExamStatisticCounterBatchRepository.class, TransactionHelper.class, ExamDtoMapper.class,
+    SecondLevelCacheConfig.class})
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private ExamDtoMapper examDtoMapper;
+
+    @Autowired
+    private EntityHelper entityHelper;
+
+    @Autowired
+    private TransactionHelper trxHelper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        statistics.setStatisticsEnabled(false);
+        em.getEntityManagerFactory().getCache().evictAll();
+        H2DbCleaner.clean(dataSource);
+    }
+
+    @Test
+    void findExam_Cached_NoSelect() {
+        // Given
+        Long examId = trxHelper.doInTransaction(() -> entityHelper.generateExam().getId());
+        trxHelper.doInTransaction(() -> em.find(Exam.class, examId));
+        statistics.clear();
+
+        // When
+        String name = trxHelper.doInTransaction(() -> em.find(Exam.class, examId).getName());
+
+        // Then
+        assertThat(name).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findExam_UpdatedAfterCached_ReadsNewValue() {
+        // Given
+        Long examId = trxHelper.doInTransaction(() -> entityHelper.generateExam().getId());
+        trxHelper.doInTransaction(() -> em.find(Exam.class, examId));
+
+        // When
+        trxHelper.doInTransaction(() -> em.find(Exam.class, examId).setName("changed"));
+
+        // Then
+        assertThat(trxHelper.doInTransaction(() -> em.find(Exam.class, examId).getName()))
+            .isEqualTo("changed");
+    }
+
+    @Test
+    void examQuestions_QuestionAddedAfterCached_ReadsNewCollection() {
+        // Given
+        Long examId = trxHelper.doInTransaction(() ->
+            entityHelper.generateQuestion().getExam().getId());
+        trxHelper.doInTransaction(() -> em.find(Exam.class, examId).getQuestions().size());
+
+        // When
+        trxHelper.doInTransaction(() -> {
+            Exam exam = em.find(Exam.class, examId);
+            entityHelper.generateQuestion(it -> it.withExam(exam));
+        });
+
+        // Then
+        assertThat(trxHelper.doInTransaction(() ->
+            em.find(Exam.class, examId).getQuestions().size())).isEqualTo(2);
+    }
+
+    @Test
+    void findQuestion_BulkUpdatedAfterCached_ReadsNewValue() {
+        // Given
+        Question question = trxHelper.doInTransaction(() ->
+            entityHelper.generateQuestion(it -> it.withAnswer(new Answer(1))));
+        trxHelper.doInTransaction(() -> em.find(Question.class, question.getId()));
+
+        // When
+        trxHelper.doInTransaction(() -> questionRepository.rewriteColumns(question.getId(),
+            new Answer(2), question.getMultipleChoice()));
+
+        // Then
+        assertThat(trxHelper.doInTransaction(() ->
+            em.find(Question.class, question.getId()).getAnswer())).isEqualTo(new Answer(2));
+    }
+
+    @Test
+    void searchExams_SameSearchTwice_ServedFromQueryCache() {
+        // Given
+        Long classroomId = trxHelper.doInTransaction(() ->
+            entityHelper.generateExam().getClassroom().getId());
+        trxHelper.doInTransaction(() -> examRepository.findAll(
+            ExamSpecs.belongsTo(classroomId), PageRequest.of(0, 10), examDtoMapper));
+        statistics.clear();
+
+        // When
+        List<ExamDto.Result> results = trxHelper.doInTransaction(() -> examRepository.findAll(
+            ExamSpecs.belongsTo(classroomId), PageRequest.of(0, 10), examDtoMapper));
+
+        // Then
+        assertThat(results).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
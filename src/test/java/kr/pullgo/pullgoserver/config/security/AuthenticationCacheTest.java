@@ -0,0 +1,106 @@
+package kr.pullgo.pullgoserver.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import kr.pullgo.pullgoserver.persistence.model.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+class AuthenticationCacheTest {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(UserRole.USER.asAuthority());
+
+    private final AuthenticationCache authenticationCache = new AuthenticationCache(2,
+        Duration.ofSeconds(60), 1);
+
+    @Test
+    void get_CachedToken_SamePrincipal() {
+        // Given
+        UserPrincipal principal = aPrincipal(1L);
+        authenticationCache.put("token", principal, AUTHORITIES, Instant.now().plusSeconds(60),
+            0L);
+
+        // When
+        UserPrincipalAuthenticationToken cached = authenticationCache.get("token");
+
+        // Then
+        assertThat(cached.getPrincipal()).isEqualTo(principal);
+        assertThat(cached.getAuthorities()).containsExactlyElementsOf(AUTHORITIES);
+        assertThat(authenticationCache.get("other-token")).isNull();
+    }
+
+    @Test
+    void get_ExpiredToken_Null() {
+        // Given
+        authenticationCache.put("token", aPrincipal(1L), AUTHORITIES, Instant.now(), 0L);
+
+        // Then
+        assertThat(authenticationCache.get("token")).isNull();
+    }
+
+    @Test
+    void get_LongLivedToken_ExpiredAfterTtl() {
+        // Given
+        AuthenticationCache shortLived = new AuthenticationCache(2, Duration.ZERO, 1);
+        shortLived.put("token", aPrincipal(1L), AUTHORITIES, Instant.now().plusSeconds(60), 0L);
+
+        // Then
+        assertThat(shortLived.get("token")).isNull();
+    }
+
+    @Test
+    void evictAccount() {
+        // Given
+        authenticationCache.put("token", aPrincipal(1L), AUTHORITIES,
+            Instant.now().plusSeconds(60), 0L);
+        authenticationCache.put("other-token", aPrincipal(2L), AUTHORITIES,
+            Instant.now().plusSeconds(60), 0L);
+
+        // When
+        authenticationCache.evictAccount(1L);
+
+        // Then
+        assertThat(authenticationCache.get("token")).isNull();
+        assertThat(authenticationCache.get("other-token")).isNotNull();
+    }
+
+    @Test
+    void put_EvictedAfterEpochRead_NotCached() {
+        // Given
+        long epoch = authenticationCache.currentEpoch();
+        authenticationCache.evictAccount(1L);
+
+        // When
+        authenticationCache.put("token", aPrincipal(1L), AUTHORITIES,
+            Instant.now().plusSeconds(60), epoch);
+
+        // Then
+        assertThat(authenticationCache.get("token")).isNull();
+    }
+
+    @Test
+    void put_Full_LeastRecentlyUsedEvicted() {
+        // Given
+        for (long id = 1; id <= 2; id++) {
+            authenticationCache.put("token-" + id, aPrincipal(id), AUTHORITIES,
+                Instant.now().plusSeconds(60), 0L);
+        }
+        authenticationCache.get("token-1");
+
+        // When
+        authenticationCache.put("token-3", aPrincipal(3L), AUTHORITIES,
+            Instant.now().plusSeconds(60), 0L);
+
+        // Then
+        assertThat(authenticationCache.get("token-1")).isNotNull();
+        assertThat(authenticationCache.get("token-2")).isNull();
+        assertThat(authenticationCache.get("token-3")).isNotNull();
+    }
+
+    private UserPrincipal aPrincipal(Long accountId) {
+        return UserPrincipal.builder().accountId(accountId).username("user" + accountId).build();
+    }
+}
@@ -0,0 +1,73 @@
+package kr.pullgo.pullgoserver.config.wrapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class ReadableRequestWrapperTest {
+
+    private static final String BODY = "{\"name\":\"test\",\"count\":3}";
+
+    @Test
+    void getInputStream_BulkRead_BodyCaptured() throws IOException {
+        // Given
+        ReadableRequestWrapper wrapper = new ReadableRequestWrapper(jsonRequest(BODY));
+
+        // When
+        byte[] read = wrapper.getInputStream().readAllBytes();
+
+        // Then
+        assertThat(new String(read, StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(wrapper.getCapturedBody()).isEqualTo(BODY);
+        assertThat(wrapper.isBodyTruncated()).isFalse();
+        assertThat(wrapper.getParameter("name")).isEqualTo("test");
+        assertThat(wrapper.getParameter("count")).isEqualTo("3");
+    }
+
+    @Test
+    void getInputStream_BodyLargerThanCap_CaptureTruncatedAndBodyIntact() throws IOException {
+        // Given
+        ReadableRequestWrapper wrapper = new ReadableRequestWrapper(jsonRequest(BODY), 8);
+
+        // When
+        ServletInputStream inputStream = wrapper.getInputStream();
+        int first = inputStream.read();
+        byte[] rest = inputStream.readAllBytes();
+
+        // Then
+        assertThat((char) first + new String(rest, StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(wrapper.getCapturedBody()).isEqualTo(BODY.substring(0, 8));
+        assertThat(wrapper.isBodyTruncated()).isTrue();
+        assertThat(wrapper.getParameter("name")).isNull();
+    }
+
+    @Test
+    void getParameter_BodyNotRead_BodyNotConsumed() throws IOException {
+        // Given
+        MockHttpServletRequest request = jsonRequest(BODY);
+        request.addParameter("page", "1");
+        ReadableRequestWrapper wrapper = new ReadableRequestWrapper(request);
+
+        // When
+        String page = wrapper.getParameter("page");
+        String name = wrapper.getParameter("name");
+
+        // Then
+        assertThat(page).isEqualTo("1");
+        assertThat(name).isNull();
+        assertThat(wrapper.getReader().readLine()).isEqualTo(BODY);
+        assertThat(wrapper.getParameter("name")).isEqualTo("test");
+    }
+
+    private MockHttpServletRequest jsonRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/exams");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
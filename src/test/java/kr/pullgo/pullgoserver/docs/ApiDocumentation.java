@@ -34,6 +34,8 @@ public class ApiDocumentation {
         parameterWithName("size").description("페이지 단위 (한 페이지에 보여줄 리소스 수)").optional();
     public static final ParameterDescriptor DOC_PARAMETER_SORT =
         parameterWithName("sort").description("정렬 기준 (`property,{ASC|DESC}` 형식)").optional();
+    public static final ParameterDescriptor DOC_PARAMETER_CURSOR =
+        parameterWithName("cursor").description("이전 응답의 `X-Next-Cursor` 값 (첫 페이지는 빈 값)").optional();
 
     private MockMvc mockMvc;
 
@@ -201,7 +201,7 @@ public class EntityHelper {
 
         em.persist(exam);
 
-        examCronJobService.registerExamCronJob(exam, examFinishService::finishExam);
+        examCronJobService.registerExamCronJob(exam, examFinishService::finishExamOnDeadline);
         return exam;
     }
 
@@ -0,0 +1,54 @@
+package kr.pullgo.pullgoserver.persistence.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import kr.pullgo.pullgoserver.persistence.model.Answer;
+import org.junit.jupiter.api.Test;
+
+class AnswerConverterTest {
+
+    private final AnswerConverter jsonConverter = new AnswerConverter(ColumnFormat.JSON);
+    private final AnswerConverter compactConverter = new AnswerConverter(ColumnFormat.COMPACT);
+
+    @Test
+    void convertToDatabaseColumn_CompactFormat_Bitmask() {
+        assertThat(compactConverter.convertToDatabaseColumn(new Answer(1, 3))).isEqualTo("#a");
+    }
+
+    @Test
+    void convertToDatabaseColumn_NotCompilableAnswer_Json() {
+        Answer answer = new Answer(100);
+        String dbData = compactConverter.convertToDatabaseColumn(answer);
+
+        assertThat(dbData).startsWith("{");
+        assertThat(compactConverter.convertToEntityAttribute(dbData)).isEqualTo(answer);
+    }
+
+    @Test
+    void convertToEntityAttribute_EitherFormat_SameAnswer() {
+        Answer answer = new Answer(1, 2, 5);
+
+        assertThat(compactConverter.convertToEntityAttribute(
+            jsonConverter.convertToDatabaseColumn(answer))).isEqualTo(answer);
+        assertThat(jsonConverter.convertToEntityAttribute(
+            compactConverter.convertToDatabaseColumn(answer))).isEqualTo(answer);
+    }
+
+    @Test
+    void convertToEntityAttribute_CommonAnswer_Interned() {
+        Answer fromJson = jsonConverter.convertToEntityAttribute("{\"objectiveNumbers\":[3]}");
+        Answer fromCompact = compactConverter.convertToEntityAttribute("#8");
+
+        assertThat(fromJson).isSameAs(fromCompact).isEqualTo(new Answer(3));
+    }
+
+    @Test
+    void convertToEntityAttribute_InternedAnswer_Unmodifiable() {
+        Answer interned = compactConverter.convertToEntityAttribute("#8");
+
+        assertThatThrownBy(() -> interned.getObjectiveNumbers().add(1))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(compactConverter.convertToEntityAttribute("#8")).isEqualTo(new Answer(3));
+    }
+}
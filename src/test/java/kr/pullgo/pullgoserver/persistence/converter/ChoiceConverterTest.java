@@ -0,0 +1,31 @@
+package kr.pullgo.pullgoserver.persistence.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import kr.pullgo.pullgoserver.persistence.model.MultipleChoice;
+import org.junit.jupiter.api.Test;
+
+class ChoiceConverterTest {
+
+    private final ChoiceConverter jsonConverter = new ChoiceConverter(ColumnFormat.JSON);
+    private final ChoiceConverter compactConverter = new ChoiceConverter(ColumnFormat.COMPACT);
+
+    @Test
+    void convertToDatabaseColumn_CompactFormat_LengthPrefixed() {
+        MultipleChoice choice = new MultipleChoice(Map.of("2", "둘:2", "1", "하나"));
+
+        assertThat(compactConverter.convertToDatabaseColumn(choice))
+            .isEqualTo("~1:12:하나1:23:둘:2");
+    }
+
+    @Test
+    void convertToEntityAttribute_EitherFormat_SameChoice() {
+        MultipleChoice choice = new MultipleChoice("1", "", "10:3", "~");
+
+        assertThat(compactConverter.convertToEntityAttribute(
+            jsonConverter.convertToDatabaseColumn(choice))).isEqualTo(choice);
+        assertThat(jsonConverter.convertToEntityAttribute(
+            compactConverter.convertToDatabaseColumn(choice))).isEqualTo(choice);
+    }
+}
@@ -0,0 +1,129 @@
+package kr.pullgo.pullgoserver.persistence.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import kr.pullgo.pullgoserver.config.aop.SchedulingConfig;
+import kr.pullgo.pullgoserver.helper.EntityHelper;
+import kr.pullgo.pullgoserver.persistence.model.Answer;
+import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
+import kr.pullgo.pullgoserver.persistence.model.AttenderState;
+import kr.pullgo.pullgoserver.persistence.model.MultipleChoice;
+import kr.pullgo.pullgoserver.persistence.model.Question;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterBatchRepository;
+import kr.pullgo.pullgoserver.service.ColumnFormatMigrationService;
+import kr.pullgo.pullgoserver.service.JwtService;
+import kr.pullgo.pullgoserver.service.authorizer.AuthenticationInspector;
+import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
+import kr.pullgo.pullgoserver.service.cron.CronJob;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.AnswerWriteBuffer;
+import kr.pullgo.pullgoserver.service.exam.ExamCronJobService;
+import kr.pullgo.pullgoserver.service.exam.ExamFinishService;
+import kr.pullgo.pullgoserver.service.exam.ExamStatisticsService;
+import kr.pullgo.pullgoserver.service.exam.OnGoingExamFindService;
+import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
+import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest(properties = "persistence.column-format=compact")
+@Import({EntityHelper.class, JwtService.class, ObjectMapper.class, CronJob.class,
+    SchedulingConfig.class, ExamFinishService.class, ExamCronJobService.class,
+    OnGoingExamFindService.class, ExamAuthorizer.class, ServiceErrorHelper.class,
+    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class,
+    AnswerKeyService.class, AnswerWriteBuffer.class, AttenderAnswerBatchRepository.class,
+    ExamStatisticsService.class, ExamStatisticCounterBatchRepository.class,
+    ColumnFormatMigrationService.class})
+class CompactColumnFormatTest {
+
+    @Autowired
+    private EntityHelper entityHelper;
+
+    @Autowired
+    private AttenderAnswerBatchRepository attenderAnswerBatchRepository;
+
+    @Autowired
+    private ColumnFormatMigrationService columnFormatMigrationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Test
+    void persist_CompactFormat_BitmaskColumnRoundTrip() {
+        //given
+        Question question = entityHelper.generateQuestion(it -> it.withAnswer(new Answer(1, 3)));
+        AttenderAnswer attenderAnswer = entityHelper.generateAttenderAnswer(
+            it -> it.withAnswer(new Answer(2)));
+
+        //when
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(jdbcTemplate.queryForObject("select answer from question where id = ?",
+            String.class, question.getId())).isEqualTo("#a");
+        assertThat(jdbcTemplate.queryForObject("select answer from attender_answer where id = ?",
+            String.class, attenderAnswer.getId())).isEqualTo("#4");
+        assertThat(em.find(Question.class, question.getId()).getAnswer())
+            .isEqualTo(new Answer(1, 3));
+        assertThat(em.find(AttenderAnswer.class, attenderAnswer.getId()).getAnswer())
+            .isEqualTo(new Answer(2));
+    }
+
+    @Test
+    void upsert_CompactFormat_BitmaskColumnRoundTrip() {
+        //given
+        AttenderState attenderState = entityHelper.generateAttenderState();
+        Question question = entityHelper.generateQuestion(
+            it -> it.withExam(attenderState.getExam()));
+        em.flush();
+
+        //when
+        attenderAnswerBatchRepository.upsert(attenderState.getId(), question.getId(),
+            new Answer(4, 5));
+
+        //then
+        assertThat(jdbcTemplate.queryForObject(
+            "select answer from attender_answer where attender_state_id = ? and question_id = ?",
+            String.class, attenderState.getId(), question.getId())).isEqualTo("#30");
+        em.clear();
+        assertThat(em.createQuery(
+            "select a.answer from AttenderAnswer a where a.question.id = :questionId",
+            Answer.class)
+            .setParameter("questionId", question.getId())
+            .getSingleResult()).isEqualTo(new Answer(4, 5));
+    }
+
+    @Test
+    void migrateColumnFormat_JsonColumns_RewrittenInCompactFormat() {
+        // Given
+        Question question = entityHelper.generateQuestion(it ->
+            it.withMultipleChoice(new MultipleChoice("1", "2")).withAnswer(new Answer(2)));
+        em.flush();
+        em.createNativeQuery("update question set answer = '{\"objectiveNumbers\":[2]}',"
+            + " multiple_choice = '{\"choices\":{\"1\":\"1\",\"2\":\"2\"}}'")
+            .executeUpdate();
+        em.clear();
+
+        // When
+        columnFormatMigrationService.migrate();
+
+        // Then
+        Object[] columns = (Object[]) em.createNativeQuery(
+            "select answer, multiple_choice from question where id = :id")
+            .setParameter("id", question.getId())
+            .getSingleResult();
+        assertThat(columns).containsExactly("#4", "~1:11:11:21:2");
+    }
+
+}
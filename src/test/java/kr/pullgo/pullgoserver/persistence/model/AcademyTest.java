@@ -8,12 +8,17 @@ import kr.pullgo.pullgoserver.config.aop.SchedulingConfig;
 import kr.pullgo.pullgoserver.error.exception.StudentNotFoundException;
 import kr.pullgo.pullgoserver.error.exception.TeacherNotFoundException;
 import kr.pullgo.pullgoserver.helper.EntityHelper;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterBatchRepository;
 import kr.pullgo.pullgoserver.service.JwtService;
 import kr.pullgo.pullgoserver.service.authorizer.AuthenticationInspector;
 import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
 import kr.pullgo.pullgoserver.service.cron.CronJob;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.AnswerWriteBuffer;
 import kr.pullgo.pullgoserver.service.exam.ExamCronJobService;
 import kr.pullgo.pullgoserver.service.exam.ExamFinishService;
+import kr.pullgo.pullgoserver.service.exam.ExamStatisticsService;
 import kr.pullgo.pullgoserver.service.exam.OnGoingExamFindService;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
@@ -27,7 +32,10 @@ import org.springframework.context.annotation.Import;
 @Import({EntityHelper.class, JwtService.class, ObjectMapper.class, CronJob.class,
     SchedulingConfig.class, ExamFinishService.class, ExamCronJobService.class,
     OnGoingExamFindService.class, ExamAuthorizer.class, ServiceErrorHelper.class,
-    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class})
+    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class,
+    AnswerKeyService.class, AnswerWriteBuffer.class,
+    AttenderAnswerBatchRepository.class, ExamStatisticsService.class,
+    ExamStatisticCounterBatchRepository.class})
 class AcademyTest {
 
     @Autowired
@@ -0,0 +1,36 @@
+package kr.pullgo.pullgoserver.persistence.model;
+
+import static kr.pullgo.pullgoserver.helper.QuestionHelper.aQuestion;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AnswerKeyTest {
+
+    @Test
+    void isCorrect() {
+        // Given
+        AnswerKey answerKey = AnswerKey.compile(List.of(
+            aQuestion().withId(2L).withAnswer(new Answer(1, 3)),
+            aQuestion().withId(1L).withAnswer(new Answer(2))));
+
+        // Then
+        assertThat(answerKey.size()).isEqualTo(2);
+        assertThat(answerKey.isCorrect(1L, new Answer(2))).isTrue();
+        assertThat(answerKey.isCorrect(2L, new Answer(3, 1))).isTrue();
+        assertThat(answerKey.isCorrect(2L, new Answer(1))).isFalse();
+        assertThat(answerKey.isCorrect(3L, new Answer(2))).isFalse();
+    }
+
+    @Test
+    void isCorrect_NotCompilableAnswer_ComparedBySet() {
+        // Given
+        AnswerKey answerKey = AnswerKey.compile(List.of(
+            aQuestion().withId(1L).withAnswer(new Answer(100))));
+
+        // Then
+        assertThat(answerKey.isCorrect(1L, new Answer(100))).isTrue();
+        assertThat(answerKey.isCorrect(1L, new Answer(1))).isFalse();
+    }
+}
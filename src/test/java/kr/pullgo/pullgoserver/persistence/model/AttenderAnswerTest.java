@@ -1,21 +1,31 @@
 package kr.pullgo.pullgoserver.persistence.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceException;
 import kr.pullgo.pullgoserver.config.aop.SchedulingConfig;
 import kr.pullgo.pullgoserver.helper.EntityHelper;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterBatchRepository;
 import kr.pullgo.pullgoserver.service.JwtService;
 import kr.pullgo.pullgoserver.service.authorizer.AuthenticationInspector;
 import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
 import kr.pullgo.pullgoserver.service.cron.CronJob;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.AnswerWriteBuffer;
 import kr.pullgo.pullgoserver.service.exam.ExamCronJobService;
 import kr.pullgo.pullgoserver.service.exam.ExamFinishService;
+import kr.pullgo.pullgoserver.service.exam.ExamStatisticsService;
 import kr.pullgo.pullgoserver.service.exam.OnGoingExamFindService;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -25,12 +35,23 @@ import org.springframework.context.annotation.Import;
 @Import({EntityHelper.class, JwtService.class, ObjectMapper.class, CronJob.class,
     SchedulingConfig.class, ExamFinishService.class, ExamCronJobService.class,
     OnGoingExamFindService.class, ExamAuthorizer.class, ServiceErrorHelper.class,
-    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class})
+    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class,
+    AnswerKeyService.class, AnswerWriteBuffer.class, AttenderAnswerBatchRepository.class,
+    ExamStatisticsService.class, ExamStatisticCounterBatchRepository.class})
 public class AttenderAnswerTest {
 
     @Autowired
     private EntityHelper entityHelper;
 
+    @Autowired
+    private RepositoryHelper repoHelper;
+
+    @Autowired
+    private AttenderAnswerRepository attenderAnswerRepository;
+
+    @Autowired
+    private AttenderAnswerBatchRepository attenderAnswerBatchRepository;
+
     @PersistenceContext
     private EntityManager em;
 
@@ -46,4 +67,94 @@ public class AttenderAnswerTest {
         assertThat(attenderAnswer.getAttenderState()).isEqualTo(attenderState);
         assertThat(attenderState.getAnswers()).contains(attenderAnswer);
     }
+
+    @Test
+    void generateAnswer_DuplicatedQuestionInAttenderState_Rejected() {
+        // Given
+        AttenderState attenderState = entityHelper.generateAttenderState();
+        Question question = entityHelper.generateQuestion();
+        entityHelper.generateAttenderAnswer(it ->
+            it.withQuestion(question).withAttenderState(attenderState));
+
+        // When, Then
+        assertThatThrownBy(() -> {
+            entityHelper.generateAttenderAnswer(it ->
+                it.withQuestion(question).withAttenderState(attenderState));
+            em.flush();
+        }).isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    void findAttenderAnswer_ByAttenderStateAndQuestion_SingleRowLookup() {
+        // Given
+        AttenderState attenderState = entityHelper.generateAttenderState();
+        AttenderAnswer target = null;
+        for (int i = 0; i < 10; i++) {
+            Question question = entityHelper.generateQuestion();
+            target = entityHelper.generateAttenderAnswer(it ->
+                it.withQuestion(question).withAttenderState(attenderState));
+        }
+        Long questionId = target.getQuestion().getId();
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        AttenderAnswer found = repoHelper.findAttenderAnswerOrThrow(attenderState.getId(),
+            questionId);
+        statistics.setStatisticsEnabled(false);
+
+        // Then
+        assertThat(found.getId()).isEqualTo(target.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void upsert_ExistingAnswer_UpdatedInPlace() {
+        // Given
+        AttenderAnswer attenderAnswer = entityHelper.generateAttenderAnswer(it ->
+            it.withAnswer(new Answer(1)));
+        Long attenderStateId = attenderAnswer.getAttenderState().getId();
+        Long questionId = attenderAnswer.getQuestion().getId();
+        em.flush();
+        Long revision = attenderAnswer.getRevision();
+        em.clear();
+
+        // When
+        attenderAnswerBatchRepository.upsert(attenderStateId, questionId, new Answer(2, 3));
+
+        // Then
+        AttenderAnswer found = repoHelper.findAttenderAnswerOrThrow(attenderStateId, questionId);
+        assertThat(found.getId()).isEqualTo(attenderAnswer.getId());
+        assertThat(found.getAnswer()).isEqualTo(new Answer(2, 3));
+        assertThat(found.getRevision()).isEqualTo(revision + 1);
+        assertThat(attenderAnswerRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void upsert_NewAnswer_Inserted() {
+        // Given
+        AttenderState attenderState = entityHelper.generateAttenderState();
+        Question question = entityHelper.generateQuestion();
+        em.flush();
+
+        // When
+        attenderAnswerBatchRepository.upsert(attenderState.getId(), question.getId(),
+            new Answer(4));
+        attenderAnswerBatchRepository.upsert(attenderState.getId(), question.getId(),
+            new Answer(5));
+
+        // Then
+        AttenderAnswer found = repoHelper.findAttenderAnswerOrThrow(attenderState.getId(),
+            question.getId());
+        assertThat(found.getAnswer()).isEqualTo(new Answer(5));
+        assertThat(found.getCreatedDate()).isNotNull();
+        assertThat(attenderAnswerRepository.count()).isEqualTo(1);
+    }
 }
@@ -3,30 +3,51 @@ package kr.pullgo.pullgoserver.persistence.model;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import kr.pullgo.pullgoserver.config.aop.SchedulingConfig;
+import kr.pullgo.pullgoserver.dto.ClassroomDto;
+import kr.pullgo.pullgoserver.dto.mapper.AccountDtoMapper;
+import kr.pullgo.pullgoserver.dto.mapper.ClassroomDtoMapper;
+import kr.pullgo.pullgoserver.dto.mapper.TeacherDtoMapper;
 import kr.pullgo.pullgoserver.helper.EntityHelper;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
 import kr.pullgo.pullgoserver.persistence.repository.ClassroomRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterBatchRepository;
 import kr.pullgo.pullgoserver.persistence.repository.LessonRepository;
 import kr.pullgo.pullgoserver.persistence.repository.ScheduleRepository;
 import kr.pullgo.pullgoserver.service.JwtService;
 import kr.pullgo.pullgoserver.service.authorizer.AuthenticationInspector;
 import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
 import kr.pullgo.pullgoserver.service.cron.CronJob;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.AnswerWriteBuffer;
 import kr.pullgo.pullgoserver.service.exam.ExamCronJobService;
 import kr.pullgo.pullgoserver.service.exam.ExamFinishService;
+import kr.pullgo.pullgoserver.service.exam.ExamStatisticsService;
 import kr.pullgo.pullgoserver.service.exam.OnGoingExamFindService;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
+import kr.pullgo.pullgoserver.service.spec.ClassroomSpecs;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 @DataJpaTest
 @Import({EntityHelper.class, JwtService.class, ObjectMapper.class, CronJob.class,
     SchedulingConfig.class, ExamFinishService.class, ExamCronJobService.class,
     OnGoingExamFindService.class, ExamAuthorizer.class, ServiceErrorHelper.class,
-    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class})
+    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class,
+    AnswerKeyService.class, AnswerWriteBuffer.class,
+    AttenderAnswerBatchRepository.class, ExamStatisticsService.class,
+    ExamStatisticCounterBatchRepository.class, ClassroomDtoMapper.class, TeacherDtoMapper.class,
+    AccountDtoMapper.class})
 class ClassroomTest {
 
     @Autowired
@@ -41,6 +62,12 @@ class ClassroomTest {
     @Autowired
     private EntityHelper entityHelper;
 
+    @Autowired
+    private ClassroomDtoMapper classroomDtoMapper;
+
+    @PersistenceContext
+    private EntityManager em;
+
     @Test
     public void generateClassroomWithAcademy_AlreadyExistedAcademy_CoexistedEntityMapping() {
         //given
@@ -89,4 +116,50 @@ class ClassroomTest {
         assertThat(scheduleRepository.findAll()).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    void existsByIdAndTeachersId() {
+        // Given
+        Classroom classroom = entityHelper.generateClassroom();
+        Teacher member = entityHelper.generateTeacher();
+        Teacher stranger = entityHelper.generateTeacher();
+        classroom.addTeacher(member);
+        classroomRepository.flush();
+
+        // When
+        boolean memberExists = classroomRepository
+            .existsByIdAndTeachersId(classroom.getId(), member.getId());
+        boolean strangerExists = classroomRepository
+            .existsByIdAndTeachersId(classroom.getId(), stranger.getId());
+
+        // Then
+        assertThat(memberExists).isTrue();
+        assertThat(strangerExists).isFalse();
+    }
+
+    @Test
+    void findAllWithProjection_NoEntityLoaded() {
+        // Given
+        Classroom classroom = entityHelper.generateClassroom();
+        entityHelper.generateClassroom();
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        List<ClassroomDto.Result> results = classroomRepository.findAll(
+            ClassroomSpecs.belongsTo(classroom.getAcademy().getId()),
+            PageRequest.of(0, 10, Sort.by("id")), classroomDtoMapper);
+        statistics.setStatisticsEnabled(false);
+
+        // Then
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(results).singleElement()
+            .isEqualTo(classroomDtoMapper.asResultDto(classroom));
+    }
+
+}
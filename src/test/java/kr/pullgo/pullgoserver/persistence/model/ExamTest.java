@@ -3,35 +3,57 @@ package kr.pullgo.pullgoserver.persistence.model;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.sql.DataSource;
 import kr.pullgo.pullgoserver.config.aop.SchedulingConfig;
 import kr.pullgo.pullgoserver.helper.EntityHelper;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
 import kr.pullgo.pullgoserver.persistence.repository.AttenderStateRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamDeadlineRepository;
 import kr.pullgo.pullgoserver.persistence.repository.ExamRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterBatchRepository;
 import kr.pullgo.pullgoserver.persistence.repository.QuestionRepository;
 import kr.pullgo.pullgoserver.service.JwtService;
 import kr.pullgo.pullgoserver.service.authorizer.AuthenticationInspector;
 import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
 import kr.pullgo.pullgoserver.service.cron.CronJob;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.AnswerWriteBuffer;
 import kr.pullgo.pullgoserver.service.exam.ExamCronJobService;
 import kr.pullgo.pullgoserver.service.exam.ExamFinishService;
+import kr.pullgo.pullgoserver.service.exam.ExamStatisticsService;
 import kr.pullgo.pullgoserver.service.exam.OnGoingExamFindService;
 import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
 import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
+import kr.pullgo.pullgoserver.util.H2DbCleaner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @DataJpaTest
 @Import({EntityHelper.class, JwtService.class, ObjectMapper.class, CronJob.class,
     SchedulingConfig.class, ExamFinishService.class, ExamCronJobService.class,
     OnGoingExamFindService.class, ExamAuthorizer.class, ServiceErrorHelper.class,
-    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class})
+    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class,
+    AnswerKeyService.class, AnswerWriteBuffer.class,
+    AttenderAnswerBatchRepository.class, ExamStatisticsService.class,
+    ExamStatisticCounterBatchRepository.class})
 class ExamTest {
 
+    private static final int ATTENDER_COUNT = 1000;
+
     @Autowired
     private AttenderStateRepository attenderStateRepository;
 
@@ -41,9 +63,24 @@ class ExamTest {
     @Autowired
     private QuestionRepository questionRepository;
 
+    @Autowired
+    private ExamDeadlineRepository examDeadlineRepository;
+
+    @Autowired
+    private ExamFinishService examFinishService;
+
     @Autowired
     private EntityHelper entityHelper;
 
+    @Autowired
+    private CronJob cronJob;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
     @PersistenceContext
     private EntityManager em;
 
@@ -101,4 +138,119 @@ class ExamTest {
         assertThat(attenderStateRepository.findAll()).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    void findOnGoingExamsWithoutDeadline() {
+        // Given
+        Exam onGoing = entityHelper.generateExam();
+        entityHelper.generateExam(it -> it.withFinished(true));
+        entityHelper.generateExam(it -> it.withCancelled(true));
+        examDeadlineRepository.deleteAll();
+        examRepository.flush();
+
+        // When
+        List<Exam> exams = examRepository.findOnGoingExamsWithoutDeadline();
+
+        // Then
+        assertThat(exams).containsOnly(onGoing);
+    }
+
+    @Test
+    void finishDueExams() {
+        // Given
+        Exam overdue = entityHelper.generateExam(it ->
+            it.withBeginDateTime(LocalDateTime.now().minusHours(3))
+                .withEndDateTime(LocalDateTime.now().minusHours(2))
+                .withTimeLimit(Duration.ofHours(1)));
+        Exam onGoing = entityHelper.generateExam();
+        examRepository.flush();
+
+        // When
+        examFinishService.finishDueExams();
+
+        // Then
+        assertThat(overdue.isFinished()).isTrue();
+        assertThat(onGoing.isFinished()).isFalse();
+        assertThat(examDeadlineRepository.findByExamId(overdue.getId())).isEmpty();
+        assertThat(examDeadlineRepository.findByExamId(onGoing.getId())).isPresent();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void finishDueExams_OneExamFails_OthersFinished() throws SQLException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            // Given
+            // 문제가 없는 시험은 응시 중인 답안지를 채점하다가 실패한다
+            long[] ids = transactionTemplate.execute(status -> {
+                Exam broken = entityHelper.generateExam(it ->
+                    it.withBeginDateTime(LocalDateTime.now().minusHours(4))
+                        .withEndDateTime(LocalDateTime.now().minusHours(3))
+                        .withTimeLimit(Duration.ofHours(1)));
+                entityHelper.generateAttenderState(it -> it.withExam(broken));
+                Exam overdue = entityHelper.generateExam(it ->
+                    it.withBeginDateTime(LocalDateTime.now().minusHours(3))
+                        .withEndDateTime(LocalDateTime.now().minusHours(2))
+                        .withTimeLimit(Duration.ofHours(1)));
+                cronJob.remove(broken.getId(), "exam");
+                cronJob.remove(overdue.getId(), "exam");
+                return new long[]{broken.getId(), overdue.getId()};
+            });
+
+            // When
+            examFinishService.finishDueExams();
+
+            // Then
+            transactionTemplate.executeWithoutResult(status -> {
+                assertThat(examRepository.findById(ids[0]).orElseThrow().isFinished()).isFalse();
+                assertThat(examDeadlineRepository.findByExamId(ids[0])).isPresent();
+                assertThat(examRepository.findById(ids[1]).orElseThrow().isFinished()).isTrue();
+                assertThat(examDeadlineRepository.findByExamId(ids[1])).isEmpty();
+            });
+        } finally {
+            H2DbCleaner.clean(dataSource);
+        }
+    }
+
+    @Test
+    void finishExam_ManyAttenders_GradedWithoutLazyLoading() {
+        // Given
+        Exam exam = entityHelper.generateExam();
+        Question question = entityHelper.generateQuestion(it ->
+            it.withAnswer(new Answer(1)).withExam(exam));
+        for (int i = 0; i < ATTENDER_COUNT; i++) {
+            Answer answer = new Answer(i % 2 == 0 ? 1 : 2);
+            AttenderState attenderState = entityHelper.generateAttenderState(it ->
+                it.withExam(exam));
+            entityHelper.generateAttenderAnswer(it ->
+                it.withQuestion(question).withAnswer(answer).withAttenderState(attenderState));
+        }
+        em.flush();
+        em.clear();
+
+        Exam found = examRepository.findById(exam.getId()).orElseThrow();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // When
+        long begin = System.nanoTime();
+        examFinishService.finishExam(found);
+        em.flush();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+        statistics.setStatisticsEnabled(false);
+
+        // Then
+        // 답안지 잠금, 답안지와 답안 읽기, 채점표 버전 확인과 읽기
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(4);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(10));
+        assertThat(attenderStateRepository.findAll())
+            .hasSize(ATTENDER_COUNT)
+            .allMatch(it -> it.getProgress() == AttendingProgress.COMPLETE)
+            .filteredOn(it -> it.getScore() == 100)
+            .hasSize(ATTENDER_COUNT / 2);
+    }
+
+}
@@ -0,0 +1,76 @@
+package kr.pullgo.pullgoserver.service.cron;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    private final TimingWheel timingWheel = new TimingWheel(Duration.ofMillis(10), 8, 2,
+        "test-wheel-");
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.shutdown();
+    }
+
+    @Test
+    void schedule_SameDeadline_RunInOneBatch() throws InterruptedException {
+        // Given
+        CountDownLatch latch = new CountDownLatch(3);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        Runnable task = () -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        };
+        Instant deadline = Instant.now().plusMillis(50);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            timingWheel.schedule(task, deadline);
+        }
+
+        // Then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).hasSize(3).containsOnly(threads.get(0));
+    }
+
+    @Test
+    void schedule_BeyondOneRound_WaitUntilDeadline() throws InterruptedException {
+        // Given
+        CountDownLatch latch = new CountDownLatch(1);
+        Instant deadline = Instant.now().plusMillis(300);
+
+        // When
+        timingWheel.schedule(latch::countDown, deadline);
+
+        // Then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(Instant.now()).isAfterOrEqualTo(deadline);
+    }
+
+    @Test
+    void cancel_NotRun() throws InterruptedException {
+        // Given
+        CountDownLatch cancelled = new CountDownLatch(1);
+        CountDownLatch sentinel = new CountDownLatch(1);
+        Instant deadline = Instant.now().plusMillis(50);
+        TimingWheel.Timeout timeout = timingWheel.schedule(cancelled::countDown, deadline);
+        timingWheel.schedule(sentinel::countDown, deadline.plusMillis(50));
+
+        // When
+        timeout.cancel();
+
+        // Then
+        assertThat(sentinel.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(cancelled.getCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,67 @@
+package kr.pullgo.pullgoserver.service.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import kr.pullgo.pullgoserver.persistence.model.AnswerKey;
+import kr.pullgo.pullgoserver.persistence.repository.QuestionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AnswerKeyServiceTest {
+
+    private final QuestionRepository questionRepository = mock(QuestionRepository.class);
+    private final AnswerKeyService answerKeyService = new AnswerKeyService(questionRepository, 2);
+
+    @BeforeEach
+    void setUp() {
+        given(questionRepository.findVersionByExamId(anyLong())).willReturn("1-1-0");
+        given(questionRepository.findByExamId(anyLong())).willReturn(List.of());
+    }
+
+    @Test
+    void getAnswerKey_Cached_SameKey() {
+        // When
+        AnswerKey answerKey = answerKeyService.getAnswerKey(1L);
+
+        // Then
+        assertThat(answerKeyService.getAnswerKey(1L)).isSameAs(answerKey);
+        verify(questionRepository, times(1)).findByExamId(1L);
+    }
+
+    @Test
+    void getAnswerKey_QuestionsChangedOnOtherNode_Recompiled() {
+        // Given
+        AnswerKey answerKey = answerKeyService.getAnswerKey(1L);
+        given(questionRepository.findVersionByExamId(1L)).willReturn("1-1-1");
+
+        // When
+        AnswerKey recompiled = answerKeyService.getAnswerKey(1L);
+
+        // Then
+        assertThat(recompiled).isNotSameAs(answerKey);
+        verify(questionRepository, times(2)).findByExamId(1L);
+    }
+
+    @Test
+    void getAnswerKey_Full_LeastRecentlyUsedEvicted() {
+        // Given
+        answerKeyService.getAnswerKey(1L);
+        answerKeyService.getAnswerKey(2L);
+        answerKeyService.getAnswerKey(1L);
+
+        // When
+        answerKeyService.getAnswerKey(3L);
+        answerKeyService.getAnswerKey(1L);
+        answerKeyService.getAnswerKey(2L);
+
+        // Then
+        verify(questionRepository, times(1)).findByExamId(1L);
+        verify(questionRepository, times(2)).findByExamId(2L);
+    }
+}
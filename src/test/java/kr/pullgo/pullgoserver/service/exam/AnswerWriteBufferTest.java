@@ -0,0 +1,364 @@
+package kr.pullgo.pullgoserver.service.exam;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.sql.DataSource;
+import kr.pullgo.pullgoserver.config.aop.SchedulingConfig;
+import kr.pullgo.pullgoserver.helper.EntityHelper;
+import kr.pullgo.pullgoserver.persistence.converter.ColumnFormat;
+import kr.pullgo.pullgoserver.persistence.model.Answer;
+import kr.pullgo.pullgoserver.persistence.model.AttenderAnswer;
+import kr.pullgo.pullgoserver.persistence.model.AttenderState;
+import kr.pullgo.pullgoserver.persistence.model.AttendingProgress;
+import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.model.Question;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerRepository;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderStateRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterBatchRepository;
+import kr.pullgo.pullgoserver.service.JwtService;
+import kr.pullgo.pullgoserver.service.authorizer.AuthenticationInspector;
+import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
+import kr.pullgo.pullgoserver.service.cron.CronJob;
+import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
+import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
+import kr.pullgo.pullgoserver.util.H2DbCleaner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest(properties = "exam.answer-buffer.enabled=true")
+@Import({EntityHelper.class, JwtService.class, ObjectMapper.class, CronJob.class,
+    SchedulingConfig.class, ExamFinishService.class, ExamCronJobService.class,
+    OnGoingExamFindService.class, ExamAuthorizer.class, ServiceErrorHelper.class,
+    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class,
+    AnswerKeyService.class, AnswerWriteBuffer.class, AttenderAnswerBatchRepository.class,
+    ExamStatisticsService.class, ExamStatisticCounterBatchRepository.class})
+class AnswerWriteBufferTest {
+
+    @TempDir
+    static Path journalDir;
+
+    @Autowired
+    private AnswerWriteBuffer answerWriteBuffer;
+
+    @Autowired
+    private AttenderAnswerBatchRepository attenderAnswerBatchRepository;
+
+    @Autowired
+    private AttenderAnswerRepository attenderAnswerRepository;
+
+    @Autowired
+    private AttenderStateRepository attenderStateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ExamFinishService examFinishService;
+
+    @Autowired
+    private AnswerKeyService answerKeyService;
+
+    @Autowired
+    private RepositoryHelper repoHelper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityHelper entityHelper;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @DynamicPropertySource
+    static void journalDir(DynamicPropertyRegistry registry) {
+        registry.add("exam.answer-buffer.journal-dir", () -> journalDir.toString());
+    }
+
+    @Test
+    void write_BufferedUntilFlush() throws IOException {
+        // Given
+        AttenderAnswer attenderAnswer = entityHelper.generateAttenderAnswer(it ->
+            it.withAnswer(new Answer(1)));
+        Long examId = attenderAnswer.getAttenderState().getExam().getId();
+        Long attenderStateId = attenderAnswer.getAttenderState().getId();
+        Long questionId = attenderAnswer.getQuestion().getId();
+        em.flush();
+
+        // When
+        answerWriteBuffer.write(examId, attenderStateId, questionId, new Answer(2));
+        em.clear();
+
+        // Then
+        assertThat(answerWriteBuffer.find(attenderStateId, questionId)).contains(new Answer(2));
+        assertThat(repoHelper.findAttenderAnswerOrThrow(attenderStateId, questionId).getAnswer())
+            .isEqualTo(new Answer(1));
+        assertThat(journalLines(journalDir)).hasSize(1);
+
+        // When
+        answerWriteBuffer.flushAll();
+        em.clear();
+
+        // Then
+        assertThat(answerWriteBuffer.find(attenderStateId, questionId)).isEmpty();
+        assertThat(repoHelper.findAttenderAnswerOrThrow(attenderStateId, questionId).getAnswer())
+            .isEqualTo(new Answer(2));
+        assertThat(journalLines(journalDir)).isEmpty();
+    }
+
+    @Test
+    void finishExam_BufferedAnswers_GradedWithFinalAnswers() {
+        // Given
+        Exam exam = entityHelper.generateExam();
+        Question question = entityHelper.generateQuestion(it ->
+            it.withAnswer(new Answer(1)).withExam(exam));
+        AttenderState attenderState = entityHelper.generateAttenderState(it ->
+            it.withExam(exam));
+        entityHelper.generateAttenderAnswer(it -> it.withQuestion(question)
+            .withAnswer(new Answer(2)).withAttenderState(attenderState));
+        em.flush();
+        em.clear();
+
+        answerWriteBuffer.write(exam.getId(), attenderState.getId(), question.getId(),
+            new Answer(1));
+
+        // When
+        examFinishService.finishExam(em.find(Exam.class, exam.getId()));
+        em.flush();
+        em.clear();
+
+        // Then
+        AttenderState found = attenderStateRepository.findById(attenderState.getId())
+            .orElseThrow();
+        assertThat(found.getProgress()).isEqualTo(AttendingProgress.COMPLETE);
+        assertThat(found.getScore()).isEqualTo(100);
+        assertThat(answerWriteBuffer.find(attenderState.getId(), question.getId())).isEmpty();
+    }
+
+    @Test
+    void flushAll_SubmittedAttenderState_AnswersDropped() {
+        // Given
+        AttenderAnswer attenderAnswer = entityHelper.generateAttenderAnswer(it ->
+            it.withAnswer(new Answer(1)));
+        AttenderState attenderState = attenderAnswer.getAttenderState();
+        Long questionId = attenderAnswer.getQuestion().getId();
+        answerWriteBuffer.write(attenderState.getExam().getId(), attenderState.getId(),
+            questionId, new Answer(2));
+        attenderState.setProgress(AttendingProgress.COMPLETE);
+        em.flush();
+
+        // When
+        answerWriteBuffer.flushAll();
+        em.clear();
+
+        // Then
+        assertThat(repoHelper.findAttenderAnswerOrThrow(attenderState.getId(), questionId)
+            .getAnswer()).isEqualTo(new Answer(1));
+        assertThat(answerWriteBuffer.find(attenderState.getId(), questionId)).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void flushAll_ConcurrentWithSubmit_GradedWithFinalAnswers() throws Exception {
+        try {
+            // Given
+            long[] ids = generateAnsweredAttenderState();
+            Long examId = ids[0];
+            Long attenderStateId = ids[1];
+            Long questionId = ids[2];
+            answerWriteBuffer.write(examId, attenderStateId, questionId, new Answer(1));
+
+            // When
+            runWhileFlushAllWaits(attenderStateId, attenderState -> {
+                answerWriteBuffer.flush(attenderStateId);
+                attenderState.mark(answerKeyService.getAnswerKey(examId));
+            });
+
+            // Then
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                AttenderState found = attenderStateRepository.findById(attenderStateId)
+                    .orElseThrow();
+                assertThat(found.getProgress()).isEqualTo(AttendingProgress.COMPLETE);
+                assertThat(found.getScore()).isEqualTo(100);
+                assertThat(repoHelper.findAttenderAnswerOrThrow(attenderStateId, questionId)
+                    .getAnswer()).isEqualTo(new Answer(1));
+            });
+            assertThat(answerWriteBuffer.find(attenderStateId, questionId)).isEmpty();
+        } finally {
+            answerWriteBuffer.flushAll();
+            H2DbCleaner.clean(dataSource);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void flushAll_ConcurrentWithPutAll_NewerAnswersKept() throws Exception {
+        try {
+            // Given
+            long[] ids = generateAnsweredAttenderState();
+            Long attenderStateId = ids[1];
+            Long questionId = ids[2];
+            answerWriteBuffer.write(ids[0], attenderStateId, questionId, new Answer(1));
+
+            // When
+            runWhileFlushAllWaits(attenderStateId, attenderState -> {
+                answerWriteBuffer.flush(attenderStateId);
+                attenderAnswerBatchRepository.upsertAll(attenderStateId,
+                    Map.of(questionId, new Answer(3)));
+            });
+
+            // Then
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                assertThat(repoHelper.findAttenderAnswerOrThrow(attenderStateId, questionId)
+                    .getAnswer()).isEqualTo(new Answer(3)));
+            assertThat(answerWriteBuffer.find(attenderStateId, questionId)).isEmpty();
+        } finally {
+            answerWriteBuffer.flushAll();
+            H2DbCleaner.clean(dataSource);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void flushAll_ConcurrentWithDelete_AnswerStaysDeleted() throws Exception {
+        try {
+            // Given
+            long[] ids = generateAnsweredAttenderState();
+            Long attenderStateId = ids[1];
+            Long questionId = ids[2];
+            answerWriteBuffer.write(ids[0], attenderStateId, questionId, new Answer(1));
+
+            // When
+            runWhileFlushAllWaits(attenderStateId, attenderState -> {
+                answerWriteBuffer.flush(attenderStateId);
+                AttenderAnswer entity = repoHelper
+                    .findAttenderAnswerOrThrow(attenderStateId, questionId);
+                entity.setAttenderState(null);
+                attenderAnswerRepository.delete(entity);
+            });
+
+            // Then
+            assertThat(attenderAnswerRepository.existsByAttenderStateIdAndQuestionId(
+                attenderStateId, questionId)).isFalse();
+            assertThat(answerWriteBuffer.find(attenderStateId, questionId)).isEmpty();
+        } finally {
+            answerWriteBuffer.flushAll();
+            H2DbCleaner.clean(dataSource);
+        }
+    }
+
+    @Test
+    void init_LeftoverJournal_Replayed() throws IOException {
+        // Given
+        AttenderAnswer attenderAnswer = entityHelper.generateAttenderAnswer(it ->
+            it.withAnswer(new Answer(1)));
+        Long examId = attenderAnswer.getAttenderState().getExam().getId();
+        Long attenderStateId = attenderAnswer.getAttenderState().getId();
+        Long questionId = attenderAnswer.getQuestion().getId();
+        em.flush();
+
+        Path dir = journalDir.resolve("replay");
+        AnswerWriteBuffer crashed = newBuffer(dir);
+        crashed.write(examId, attenderStateId, questionId, new Answer(3));
+        crashed.write(examId, attenderStateId, questionId, new Answer(4));
+
+        // When
+        AnswerWriteBuffer restarted = newBuffer(dir);
+        assertThat(restarted.find(attenderStateId, questionId)).contains(new Answer(4));
+        restarted.flushAll();
+        em.clear();
+
+        // Then
+        assertThat(repoHelper.findAttenderAnswerOrThrow(attenderStateId, questionId).getAnswer())
+            .isEqualTo(new Answer(4));
+        assertThat(journalLines(dir)).isEmpty();
+    }
+
+    private long[] generateAnsweredAttenderState() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Exam exam = entityHelper.generateExam();
+            Question question = entityHelper.generateQuestion(it ->
+                it.withAnswer(new Answer(1)).withExam(exam));
+            AttenderState attenderState = entityHelper.generateAttenderState(it ->
+                it.withExam(exam));
+            entityHelper.generateAttenderAnswer(it -> it.withQuestion(question)
+                .withAnswer(new Answer(2)).withAttenderState(attenderState));
+            return new long[]{exam.getId(), attenderState.getId(), question.getId()};
+        });
+    }
+
+    private void runWhileFlushAllWaits(Long attenderStateId, Consumer<AttenderState> inLock)
+        throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // 다른 요청이 응시 상태를 잠근 사이에 flushAll 이 버퍼를 가져가서 잠금을 기다린다
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch flushAllWaiting = new CountDownLatch(1);
+        Thread request = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            AttenderState attenderState = repoHelper
+                .findLockedAttenderStateOrThrow(attenderStateId);
+            locked.countDown();
+            try {
+                flushAllWaiting.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inLock.accept(attenderState);
+        }));
+        request.start();
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread flushAll = new Thread(answerWriteBuffer::flushAll);
+        flushAll.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flushAll.getState() != Thread.State.TIMED_WAITING
+            && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        flushAllWaiting.countDown();
+        request.join(TimeUnit.SECONDS.toMillis(10));
+        flushAll.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private AnswerWriteBuffer newBuffer(Path dir) throws IOException {
+        AnswerWriteBuffer buffer = new AnswerWriteBuffer(attenderAnswerBatchRepository,
+            attenderStateRepository, transactionManager, ColumnFormat.COMPACT, true,
+            dir.toString());
+        buffer.init();
+        return buffer;
+    }
+
+    private List<String> journalLines(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.list(dir)) {
+            return paths.filter(Files::isRegularFile).flatMap(path -> {
+                try {
+                    return Files.readAllLines(path).stream();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).collect(Collectors.toList());
+        }
+    }
+}
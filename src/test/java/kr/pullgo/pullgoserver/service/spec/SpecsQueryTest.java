@@ -0,0 +1,163 @@
+package kr.pullgo.pullgoserver.service.spec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import kr.pullgo.pullgoserver.config.aop.SchedulingConfig;
+import kr.pullgo.pullgoserver.dto.ExamDto;
+import kr.pullgo.pullgoserver.dto.LessonDto;
+import kr.pullgo.pullgoserver.dto.mapper.ExamDtoMapper;
+import kr.pullgo.pullgoserver.dto.mapper.LessonDtoMapper;
+import kr.pullgo.pullgoserver.dto.mapper.ScheduleDtoMapper;
+import kr.pullgo.pullgoserver.helper.EntityHelper;
+import kr.pullgo.pullgoserver.persistence.model.Classroom;
+import kr.pullgo.pullgoserver.persistence.model.Exam;
+import kr.pullgo.pullgoserver.persistence.model.Lesson;
+import kr.pullgo.pullgoserver.persistence.model.Schedule;
+import kr.pullgo.pullgoserver.persistence.model.Student;
+import kr.pullgo.pullgoserver.persistence.model.Teacher;
+import kr.pullgo.pullgoserver.persistence.repository.AttenderAnswerBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamRepository;
+import kr.pullgo.pullgoserver.persistence.repository.ExamStatisticCounterBatchRepository;
+import kr.pullgo.pullgoserver.persistence.repository.LessonRepository;
+import kr.pullgo.pullgoserver.service.JwtService;
+import kr.pullgo.pullgoserver.service.authorizer.AuthenticationInspector;
+import kr.pullgo.pullgoserver.service.authorizer.ExamAuthorizer;
+import kr.pullgo.pullgoserver.service.cron.CronJob;
+import kr.pullgo.pullgoserver.service.exam.AnswerKeyService;
+import kr.pullgo.pullgoserver.service.exam.AnswerWriteBuffer;
+import kr.pullgo.pullgoserver.service.exam.ExamCronJobService;
+import kr.pullgo.pullgoserver.service.exam.ExamFinishService;
+import kr.pullgo.pullgoserver.service.exam.ExamStatisticsService;
+import kr.pullgo.pullgoserver.service.exam.OnGoingExamFindService;
+import kr.pullgo.pullgoserver.service.helper.RepositoryHelper;
+import kr.pullgo.pullgoserver.service.helper.ServiceErrorHelper;
+import kr.pullgo.pullgoserver.util.SqlStatementRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "kr.pullgo.pullgoserver.util.SqlStatementRecorder")
+@Import({EntityHelper.class, JwtService.class, ObjectMapper.class, CronJob.class,
+    SchedulingConfig.class, ExamFinishService.class, ExamCronJobService.class,
+    OnGoingExamFindService.class, ExamAuthorizer.class, ServiceErrorHelper.class,
+    RepositoryHelper.class, AuthenticationInspector.class, ServiceErrorHelper.class,
+    AnswerKeyService.class, AnswerWriteBuffer.class,
+    AttenderAnswerBatchRepository.class, ExamStatisticsService.class,
+    ExamStatisticCounterBatchRepository.class, LessonDtoMapper.class, ScheduleDtoMapper.class,
+    ExamDtoMapper.class})
+class SpecsQueryTest {
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private LessonDtoMapper lessonDtoMapper;
+
+    @Autowired
+    private ExamDtoMapper examDtoMapper;
+
+    @Autowired
+    private EntityHelper entityHelper;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Test
+    void searchLessons_AllConditions_OneSelectWithoutDuplicatedJoins() {
+        // Given
+        Student student = entityHelper.generateStudent();
+        Student otherStudent = entityHelper.generateStudent();
+        Teacher teacher = entityHelper.generateTeacher();
+        Classroom classroom = entityHelper.generateClassroom();
+        classroom.addStudent(student);
+        classroom.addStudent(otherStudent);
+        classroom.addTeacher(teacher);
+        Schedule schedule = entityHelper.generateSchedule(it ->
+            it.withDate(LocalDate.of(2021, 4, 15)));
+        Lesson lesson = entityHelper.generateLesson(it ->
+            it.withSchedule(schedule).withClassroom(classroom));
+        entityHelper.generateLesson();
+        em.flush();
+        em.clear();
+
+        Specification<Lesson> spec = null;
+        spec = LessonSpecs.belongsTo(classroom.getId()).and(spec);
+        spec = LessonSpecs.belongsToAcademy(classroom.getAcademy().getId()).and(spec);
+        spec = LessonSpecs.isAssignedToStudent(student.getId()).and(spec);
+        spec = LessonSpecs.isAssignedToTeacher(teacher.getId()).and(spec);
+        spec = LessonSpecs.sinceDate(LocalDate.of(2021, 4, 1)).and(spec);
+        spec = LessonSpecs.untilDate(LocalDate.of(2021, 5, 1)).and(spec);
+        SqlStatementRecorder.clear();
+
+        // When
+        List<LessonDto.Result> results = lessonRepository.findAll(spec,
+            PageRequest.of(0, 10, Sort.by("schedule.date")), lessonDtoMapper);
+
+        // Then
+        List<String> statements = SqlStatementRecorder.getStatements();
+        assertThat(statements).hasSize(1);
+        String sql = statements.get(0);
+        assertThat(count(sql, "exists")).isEqualTo(2);
+        assertThat(count(sql, "join classroom ")).isEqualTo(1);
+        assertThat(count(sql, "join schedule ")).isEqualTo(1);
+        assertThat(results).extracting(LessonDto.Result::getId)
+            .containsExactly(lesson.getId());
+    }
+
+    @Test
+    void searchExams_AssignedToStudent_OneSelectWithoutOuterJoin() {
+        // Given
+        Student student = entityHelper.generateStudent();
+        Classroom classroom = entityHelper.generateClassroom();
+        classroom.addStudent(student);
+        classroom.addStudent(entityHelper.generateStudent());
+        Exam exam = entityHelper.generateExam(it -> it.withClassroom(classroom));
+        entityHelper.generateExam();
+        em.flush();
+        em.clear();
+
+        Specification<Exam> spec = null;
+        spec = ExamSpecs.belongsTo(classroom.getId()).and(spec);
+        spec = ExamSpecs.isAssignedTo(student.getId()).and(spec);
+        spec = ExamSpecs.isItFinished(false).and(spec);
+        SqlStatementRecorder.clear();
+
+        // When
+        List<ExamDto.Result> results = examRepository.findAll(spec,
+            PageRequest.of(0, 10), examDtoMapper);
+
+        // Then
+        List<String> statements = SqlStatementRecorder.getStatements();
+        assertThat(statements).hasSize(1);
+        String sql = statements.get(0);
+        String outerQuery = sql.substring(0, sql.indexOf("where"));
+        assertThat(outerQuery).doesNotContain("join");
+        assertThat(count(sql, "exists")).isEqualTo(1);
+        assertThat(results).extracting(ExamDto.Result::getId)
+            .containsExactly(exam.getId());
+    }
+
+    private static int count(String sql, String token) {
+        Matcher matcher = Pattern.compile(Pattern.quote(token)).matcher(sql.toLowerCase());
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+}
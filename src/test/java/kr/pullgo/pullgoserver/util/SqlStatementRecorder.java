@@ -0,0 +1,33 @@
+package kr.pullgo.pullgoserver.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 기록한다. hibernate.session_factory.statement_inspector 로 등록한다.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> statements = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (statements) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    public static List<String> getStatements() {
+        synchronized (statements) {
+            return new ArrayList<>(statements);
+        }
+    }
+}